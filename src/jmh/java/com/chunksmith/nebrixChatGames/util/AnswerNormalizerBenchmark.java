@@ -0,0 +1,74 @@
+package com.chunksmith.nebrixChatGames.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the regex answer normalizer with the compiled table on typical chat lines
+ * Both run with the default settings: colors stripped, homoglyphs folded, case-insensitive
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AnswerNormalizerBenchmark {
+
+    // Mix of plain answers, chatter, formatted messages and lookalike attempts
+    private static final String[] CHAT_LINES = {
+            "diamond",
+            "Diamond Sword",
+            "42",
+            "gg",
+            "lol who won the last one",
+            "anyone want to trade iron for emeralds?",
+            "  creeper  ",
+            "§aenchanted golden apple",
+            "<rainbow>netherite</rainbow>",
+            "café",
+            "ｄｉａｍｏｎｄ",
+            "сrеереr",
+            "𝐝𝐢𝐚𝐦𝐨𝐧𝐝",
+            "the answer is ①②",
+    };
+
+    private LegacyAnswerNormalizer legacy;
+    private AnswerNormalizer compiled;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        final ConfusablesTable table;
+        try (InputStream stream = AnswerNormalizerBenchmark.class.getClassLoader().getResourceAsStream(ConfusablesTable.RESOURCE)) {
+            if (stream == null) {
+                throw new IOException("Missing " + ConfusablesTable.RESOURCE);
+            }
+            table = ConfusablesTable.load(stream);
+        }
+
+        legacy = new LegacyAnswerNormalizer(true, true, false);
+        compiled = AnswerNormalizer.compile(table, true, true, false);
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        for (String line : CHAT_LINES) {
+            blackhole.consume(legacy.normalize(line));
+        }
+    }
+
+    @Benchmark
+    public void compiled(Blackhole blackhole) {
+        for (String line : CHAT_LINES) {
+            blackhole.consume(compiled.normalize(line));
+        }
+    }
+}
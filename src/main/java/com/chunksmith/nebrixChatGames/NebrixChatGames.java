@@ -5,13 +5,18 @@ import com.chunksmith.nebrixChatGames.config.ConfigManager;
 import com.chunksmith.nebrixChatGames.core.GameEngine;
 import com.chunksmith.nebrixChatGames.core.GameRegistry;
 import com.chunksmith.nebrixChatGames.core.GameScheduler;
+import com.chunksmith.nebrixChatGames.core.MainThreadQueue;
 import com.chunksmith.nebrixChatGames.data.PlayerDataManager;
 import com.chunksmith.nebrixChatGames.games.MathGame;
 import com.chunksmith.nebrixChatGames.games.ReactionGame;
 import com.chunksmith.nebrixChatGames.games.UnscrambleGame;
 import com.chunksmith.nebrixChatGames.integration.EconomyIntegration;
+import com.chunksmith.nebrixChatGames.leaderboard.LeaderboardManager;
 import com.chunksmith.nebrixChatGames.listeners.ChatListener;
 import com.chunksmith.nebrixChatGames.listeners.PlayerListener;
+import com.chunksmith.nebrixChatGames.platform.BukkitPlatformScheduler;
+import com.chunksmith.nebrixChatGames.platform.FoliaPlatformScheduler;
+import com.chunksmith.nebrixChatGames.platform.PlatformScheduler;
 import com.chunksmith.nebrixChatGames.rewards.RewardManager;
 import com.chunksmith.nebrixChatGames.ui.MessageManager;
 import com.chunksmith.nebrixChatGames.util.WordProvider;
@@ -19,7 +24,6 @@ import org.bukkit.command.PluginCommand;
 import org.bukkit.plugin.PluginManager;
 import org.bukkit.plugin.java.JavaPlugin;
 
-import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 
 /**
@@ -32,10 +36,14 @@ import java.util.logging.Level;
  */
 public final class NebrixChatGames extends JavaPlugin {
 
+    // Platform scheduler (Bukkit or Folia)
+    private PlatformScheduler platformScheduler;
+
     // Core managers - proper dependency injection pattern
     private ConfigManager configManager;
     private MessageManager messageManager;
     private PlayerDataManager playerDataManager;
+    private LeaderboardManager leaderboardManager;
     private WordProvider wordProvider;
     private EconomyIntegration economyIntegration;
     private RewardManager rewardManager;
@@ -44,6 +52,7 @@ public final class NebrixChatGames extends JavaPlugin {
     private GameRegistry gameRegistry;
     private GameEngine gameEngine;
     private GameScheduler gameScheduler;
+    private MainThreadQueue mainThreadQueue;
 
     // Listeners
     private ChatListener chatListener;
@@ -56,6 +65,12 @@ public final class NebrixChatGames extends JavaPlugin {
         try {
             getLogger().info("Starting Nebrix ChatGames v" + getDescription().getVersion());
 
+            // Pick the scheduler before anything schedules work
+            this.platformScheduler = FoliaPlatformScheduler.isSupported()
+                    ? new FoliaPlatformScheduler(this)
+                    : new BukkitPlatformScheduler(this);
+            getLogger().info("Using " + platformScheduler.getName() + " scheduler");
+
             // Initialize core systems in proper order
             if (!initializeCoreManagers()) {
                 disablePlugin("Failed to initialize core managers");
@@ -106,15 +121,20 @@ public final class NebrixChatGames extends JavaPlugin {
                 gameEngine.endCurrentGame();
             }
 
-            // Save all player data asynchronously with timeout
+            // Resolve rounds still waiting for the main thread before data is saved
+            if (mainThreadQueue != null) {
+                mainThreadQueue.stop();
+            }
+            if (gameEngine != null) {
+                gameEngine.getAnswerBatcher().stop();
+            }
+
+            // Finish queued I/O, flush changed player data and close the storage
             if (playerDataManager != null) {
-                final CompletableFuture<Void> saveTask = playerDataManager.saveAllAsync();
-                try {
-                    // Wait up to 5 seconds for save to complete
-                    saveTask.get(5, java.util.concurrent.TimeUnit.SECONDS);
-                } catch (Exception e) {
-                    getLogger().log(Level.WARNING, "Failed to save all player data before shutdown", e);
-                }
+                playerDataManager.shutdown();
+            }
+            if (leaderboardManager != null) {
+                leaderboardManager.shutdown();
             }
 
             // Cleanup economy integration
@@ -122,6 +142,11 @@ public final class NebrixChatGames extends JavaPlugin {
                 economyIntegration.cleanup();
             }
 
+            // Cancel anything still scheduled
+            if (platformScheduler != null) {
+                platformScheduler.cancelAll();
+            }
+
             getLogger().info("Nebrix ChatGames disabled successfully");
 
         } catch (Exception e) {
@@ -148,12 +173,16 @@ public final class NebrixChatGames extends JavaPlugin {
             this.messageManager = new MessageManager(this, configManager);
 
             // Data management
-            this.playerDataManager = new PlayerDataManager(this, configManager);
+            this.leaderboardManager = new LeaderboardManager(this);
+            this.playerDataManager = new PlayerDataManager(this, configManager, leaderboardManager);
             if (!playerDataManager.initialize()) {
                 getLogger().severe("Failed to initialize player data manager");
                 return false;
             }
 
+            // Leaderboards fill in the background; wins recorded meanwhile are ranked right away
+            leaderboardManager.seed(playerDataManager);
+
             // Word provider
             this.wordProvider = new WordProvider(this);
             wordProvider.loadWords();
@@ -184,8 +213,14 @@ public final class NebrixChatGames extends JavaPlugin {
             // Game registry
             this.gameRegistry = new GameRegistry(this);
 
+            // Main thread hand-off for work triggered from the async chat thread
+            this.mainThreadQueue = new MainThreadQueue(this, configManager.getMainThreadQueueCapacity());
+            mainThreadQueue.start();
+
             // Game engine - the heart of the system
-            this.gameEngine = new GameEngine(this, gameRegistry, messageManager, rewardManager, playerDataManager);
+            this.gameEngine = new GameEngine(this, gameRegistry, messageManager, rewardManager, playerDataManager,
+                    mainThreadQueue);
+            gameEngine.getAnswerBatcher().start();
 
             // Game scheduler
             this.gameScheduler = new GameScheduler(this, gameEngine, configManager);
@@ -249,9 +284,9 @@ public final class NebrixChatGames extends JavaPlugin {
             final PluginManager pluginManager = getServer().getPluginManager();
 
             this.chatListener = new ChatListener(this, gameEngine, configManager);
-            pluginManager.registerEvents(chatListener, this);
+            chatListener.register(pluginManager);
 
-            this.playerListener = new PlayerListener(this, playerDataManager);
+            this.playerListener = new PlayerListener(this, playerDataManager, gameEngine);
             pluginManager.registerEvents(playerListener, this);
 
             return true;
@@ -295,8 +330,11 @@ public final class NebrixChatGames extends JavaPlugin {
                 return false;
             }
 
-            // Reload word provider
-            wordProvider.loadWords();
+            // Eligibility depends on permission and world settings
+            gameEngine.getAnswerPipeline().invalidateAll();
+
+            // Reload words in the background; games keep the old words until then
+            wordProvider.loadWordsAsync();
 
             // Re-register games based on new config
             gameRegistry.clearGames();
@@ -317,6 +355,10 @@ public final class NebrixChatGames extends JavaPlugin {
     }
 
     // Getters for dependency injection (package-private for better encapsulation)
+    public PlatformScheduler getPlatformScheduler() {
+        return platformScheduler;
+    }
+
     public ConfigManager getConfigManager() {
         return configManager;
     }
@@ -329,6 +371,10 @@ public final class NebrixChatGames extends JavaPlugin {
         return playerDataManager;
     }
 
+    public LeaderboardManager getLeaderboardManager() {
+        return leaderboardManager;
+    }
+
     public GameRegistry getGameRegistry() {
         return gameRegistry;
     }
@@ -341,6 +387,10 @@ public final class NebrixChatGames extends JavaPlugin {
         return gameScheduler;
     }
 
+    public MainThreadQueue getMainThreadQueue() {
+        return mainThreadQueue;
+    }
+
     public RewardManager getRewardManager() {
         return rewardManager;
     }
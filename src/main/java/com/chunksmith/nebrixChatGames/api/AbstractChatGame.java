@@ -5,12 +5,22 @@ package com.chunksmith.nebrixChatGames.api;
 
 import com.chunksmith.nebrixChatGames.NebrixChatGames;
 import com.chunksmith.nebrixChatGames.config.ConfigManager;
+import com.chunksmith.nebrixChatGames.util.TextUtils;
+import com.chunksmith.nebrixChatGames.util.WordFilter;
+import com.chunksmith.nebrixChatGames.util.WordIndex;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class AbstractChatGame implements ChatGame {
 
     protected final NebrixChatGames plugin;
     protected final ConfigManager config;
 
+    // Filters already reported as matching no word
+    private final Set<WordFilter> unmatchedFilters = ConcurrentHashMap.newKeySet();
+
     protected AbstractChatGame(NebrixChatGames plugin) {
         this.plugin = plugin;
         this.config = plugin.getConfigManager();
@@ -46,6 +56,50 @@ public abstract class AbstractChatGame implements ChatGame {
                 config.isDefaultCaseSensitive());
     }
 
+    /**
+     * Get the number of typos an answer may contain from config
+     * @return Maximum edit distance, 0 for exact matching
+     */
+    protected int getAnswerTolerance() {
+        return config.getLevenshteinTolerance(getId());
+    }
+
+    /**
+     * Get the word pack filter of this game from config
+     * @param minLength Minimum word length
+     * @param maxLength Maximum word length
+     * @return Tags, difficulty range and the given length range
+     */
+    protected WordFilter getWordFilter(int minLength, int maxLength) {
+        return new WordFilter(config.getGameWordTags(getId()), minLength, maxLength,
+                config.getGameMinDifficulty(getId()), config.getGameMaxDifficulty(getId()));
+    }
+
+    /**
+     * Warn once per filter that no loaded word matches it, naming the tags no pack provides
+     * @param words Word index the filter was applied to
+     * @param filter Filter that matched nothing
+     */
+    protected void warnUnmatchedFilter(WordIndex words, WordFilter filter) {
+        if (!unmatchedFilters.add(filter)) {
+            return;
+        }
+
+        final List<String> unknownTags = filter.tags().stream()
+                .filter(tag -> words.countByTag(tag) == 0)
+                .toList();
+        if (!unknownTags.isEmpty()) {
+            plugin.getLogger().warning("No word pack provides the tags " + unknownTags + " set in "
+                    + getConfigPrefix() + ".tags, using random words");
+            return;
+        }
+
+        final String tags = filter.tags().isEmpty() ? "" : " with the tags " + filter.tags();
+        plugin.getLogger().warning("No word" + tags + " has length " + filter.minLength() + "-" + filter.maxLength()
+                + " and difficulty " + filter.minDifficulty() + "-" + filter.maxDifficulty()
+                + " for " + getConfigPrefix() + ", using random words");
+    }
+
     /**
      * Configuration prefix for this game inside the main config
      *
@@ -73,4 +127,29 @@ public abstract class AbstractChatGame implements ChatGame {
             return playerAnswer.equalsIgnoreCase(correctAnswer);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Answer checking that accepts up to {@link #getAnswerTolerance()} typos
+     * @param playerAnswer The player's normalized answer
+     * @param correctAnswer The correct answer
+     * @param caseSensitive Whether comparison should be case-sensitive
+     * @return true if the answer is within the tolerated edit distance
+     */
+    protected boolean checkFuzzyAnswer(String playerAnswer, String correctAnswer, boolean caseSensitive) {
+        if (playerAnswer == null || correctAnswer == null) {
+            return false;
+        }
+
+        return TextUtils.isSimilar(playerAnswer, correctAnswer, getAnswerTolerance(), !caseSensitive);
+    }
+
+    /**
+     * Routing key for games whose answer is a single text
+     * Fuzzy rounds accept text that does not start like the answer, so they are not routed
+     * @param correctAnswer The correct answer
+     * @return The answer, or null if typos are tolerated
+     */
+    protected String getFuzzyAnswerKey(String correctAnswer) {
+        return getAnswerTolerance() > 0 ? null : correctAnswer;
+    }
+}
@@ -34,6 +34,18 @@ public interface ChatGame {
      */
     boolean isCorrectAnswer(String answer, Player player, GameRound round);
 
+    /**
+     * Get the literal answer text used to route chat messages to this round
+     * Only return a value when every accepted answer equals it after normalization;
+     * rounds without a key are checked against every message
+     *
+     * @param round the current round
+     * @return the answer text, or null if answers cannot be routed by text
+     */
+    default String getAnswerKey(GameRound round) {
+        return null;
+    }
+
     /**
      * Determine if this game is enabled and should appear in listings
      *
@@ -0,0 +1,50 @@
+package com.chunksmith.nebrixChatGames.api.events;
+
+import com.chunksmith.nebrixChatGames.api.ChatGame;
+import com.chunksmith.nebrixChatGames.api.GameRound;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Event fired once per tick on the main thread with every answer received during that tick
+ * Only answers that reached answer matching are included
+ */
+public class AnswerBatchEvent extends Event {
+    private static final HandlerList handlers = new HandlerList();
+
+    private final List<Answer> answers;
+
+    public AnswerBatchEvent(List<Answer> answers) {
+        this.answers = List.copyOf(answers);
+    }
+
+    public List<Answer> getAnswers() { return answers; }
+    public int size() { return answers.size(); }
+
+    @Override
+    public @NotNull HandlerList getHandlers() { return handlers; }
+
+    public static HandlerList getHandlerList() { return handlers; }
+
+    /**
+     * Check whether anyone listens, so answers are only collected when they can be observed
+     * @return true if at least one listener is registered
+     */
+    public static boolean hasListeners() { return handlers.getRegisteredListeners().length > 0; }
+
+    /**
+     * A single answer within the batch
+     * @param player The player who answered
+     * @param game The game the answer was for
+     * @param round The round the answer was for
+     * @param answer The raw answer text
+     * @param correct Whether the answer matched
+     * @param timestamp When the answer was received, in milliseconds
+     */
+    public record Answer(Player player, ChatGame game, GameRound round, String answer,
+                         boolean correct, long timestamp) {}
+}
@@ -11,6 +11,7 @@ import javax.annotation.Nullable;
 
 /**
  * Event fired when a chat game ends
+ * Always fired on the main thread
  */
 public class GameEndEvent extends Event {
     private static final HandlerList handlers = new HandlerList();
@@ -11,6 +11,7 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Event fired when a chat game starts
+ * Always fired on the main thread
  */
 public class GameStartEvent extends Event implements Cancellable {
     private static final HandlerList handlers = new HandlerList();
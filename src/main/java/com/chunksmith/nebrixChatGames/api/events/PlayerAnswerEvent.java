@@ -2,6 +2,7 @@ package com.chunksmith.nebrixChatGames.api.events;
 
 import com.chunksmith.nebrixChatGames.api.ChatGame;
 import com.chunksmith.nebrixChatGames.api.GameRound;
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Cancellable;
 import org.bukkit.event.Event;
@@ -10,6 +11,8 @@ import org.jetbrains.annotations.NotNull;
 
 /**
  * Event fired when a player submits an answer
+ * Fired from the chat thread and declared asynchronous there; listeners must not touch
+ * the Bukkit world. Use {@link AnswerBatchEvent} to observe answers on the main thread.
  */
 public class PlayerAnswerEvent extends Event implements Cancellable {
     private static final HandlerList handlers = new HandlerList();
@@ -21,6 +24,11 @@ public class PlayerAnswerEvent extends Event implements Cancellable {
     private final String answer;
 
     public PlayerAnswerEvent(Player player, ChatGame game, GameRound round, String answer) {
+        this(player, game, round, answer, !Bukkit.isPrimaryThread());
+    }
+
+    public PlayerAnswerEvent(Player player, ChatGame game, GameRound round, String answer, boolean async) {
+        super(async);
         this.player = player;
         this.game = game;
         this.round = round;
@@ -42,4 +50,10 @@ public class PlayerAnswerEvent extends Event implements Cancellable {
     public @NotNull HandlerList getHandlers() { return handlers; }
 
     public static HandlerList getHandlerList() { return handlers; }
+
+    /**
+     * Check whether anyone listens, so the event is only built when it can be observed
+     * @return true if at least one listener is registered
+     */
+    public static boolean hasListeners() { return handlers.getRegisteredListeners().length > 0; }
 }
\ No newline at end of file
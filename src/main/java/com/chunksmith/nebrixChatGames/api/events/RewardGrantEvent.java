@@ -9,6 +9,7 @@ import org.jetbrains.annotations.NotNull;
 
 /**
  * Event fired when rewards are granted to a player
+ * Always fired on the main thread
  */
 public class RewardGrantEvent extends Event {
     private static final HandlerList handlers = new HandlerList();
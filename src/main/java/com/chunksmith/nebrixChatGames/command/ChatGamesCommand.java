@@ -3,12 +3,24 @@ package com.chunksmith.nebrixChatGames.command;
 import com.chunksmith.nebrixChatGames.NebrixChatGames;
 import com.chunksmith.nebrixChatGames.api.ChatGame;
 import com.chunksmith.nebrixChatGames.config.ConfigManager;
+import com.chunksmith.nebrixChatGames.core.AnswerBatcher;
+import com.chunksmith.nebrixChatGames.core.AnswerPipeline;
 import com.chunksmith.nebrixChatGames.core.GameEngine;
 import com.chunksmith.nebrixChatGames.core.GameRegistry;
 import com.chunksmith.nebrixChatGames.core.GameScheduler;
+import com.chunksmith.nebrixChatGames.core.MainThreadQueue;
+import com.chunksmith.nebrixChatGames.data.FlushMetrics;
+import com.chunksmith.nebrixChatGames.data.PlayerCache;
+import com.chunksmith.nebrixChatGames.data.PlayerData;
+import com.chunksmith.nebrixChatGames.data.PlayerDataManager;
+import com.chunksmith.nebrixChatGames.leaderboard.Leaderboard;
+import com.chunksmith.nebrixChatGames.leaderboard.LeaderboardManager;
+import com.chunksmith.nebrixChatGames.leaderboard.WindowedLeaderboards;
+import com.chunksmith.nebrixChatGames.ui.StatCardCache;
 import com.chunksmith.nebrixChatGames.util.TextUtils;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -20,7 +32,12 @@ import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Main command handler for /chatgames
@@ -33,11 +50,15 @@ public class ChatGamesCommand implements CommandExecutor, TabCompleter {
     private final GameScheduler gameScheduler;
     private final ConfigManager config;
     private final GameRegistry gameRegistry;
+    private final StatCardCache statCards;
 
     private final List<String> subcommands = Arrays.asList(
-            "start", "stop", "info", "list", "reload", "toggle", "stats"
+            "start", "stop", "info", "list", "reload", "toggle", "top", "stats", "metrics"
     );
 
+    // Leaderboard rows per page
+    private static final int TOP_PAGE_SIZE = 10;
+
     public ChatGamesCommand(NebrixChatGames plugin, GameEngine gameEngine, GameScheduler gameScheduler,
                             ConfigManager config, GameRegistry gameRegistry) {
         this.plugin = plugin;
@@ -45,6 +66,7 @@ public class ChatGamesCommand implements CommandExecutor, TabCompleter {
         this.gameScheduler = gameScheduler;
         this.config = config;
         this.gameRegistry = gameRegistry;
+        this.statCards = new StatCardCache(plugin, gameRegistry);
     }
 
     @Override
@@ -61,12 +83,14 @@ public class ChatGamesCommand implements CommandExecutor, TabCompleter {
 
         switch (subcommand) {
             case "start" -> handleStart(sender, args);
-            case "stop" -> handleStop(sender);
+            case "stop" -> handleStop(sender, args);
             case "info" -> handleInfo(sender);
             case "list" -> handleList(sender);
             case "reload" -> handleReload(sender);
             case "toggle" -> handleToggle(sender);
+            case "top" -> handleTop(sender, args);
             case "stats" -> handleStats(sender, args);
+            case "metrics" -> handleMetrics(sender, args);
             default -> {
                 sendMessage(sender, Component.text("Unknown subcommand: " + subcommand, NamedTextColor.RED));
                 showHelp(sender);
@@ -92,8 +116,14 @@ public class ChatGamesCommand implements CommandExecutor, TabCompleter {
 
         final String gameId = args[1].toLowerCase();
 
-        if (gameEngine.isGameActive()) {
-            sendMessage(sender, Component.text("A game is already active! Use /chatgames stop first.", NamedTextColor.RED));
+        if (gameEngine.isGameRunning(gameId)) {
+            sendMessage(sender, Component.text("That game is already active! Use /chatgames stop " + gameId +
+                    " first.", NamedTextColor.RED));
+            return;
+        }
+
+        if (!gameEngine.hasFreeSlot()) {
+            sendMessage(sender, Component.text("All game slots are in use! Use /chatgames stop first.", NamedTextColor.RED));
             return;
         }
 
@@ -106,9 +136,9 @@ public class ChatGamesCommand implements CommandExecutor, TabCompleter {
     }
 
     /**
-     * Handle /chatgames stop
+     * Handle /chatgames stop [game]
      */
-    private void handleStop(CommandSender sender) {
+    private void handleStop(CommandSender sender, String[] args) {
         if (!sender.hasPermission("nebrixchatgames.admin.stop")) {
             sendMessage(sender, Component.text("You don't have permission to stop games.", NamedTextColor.RED));
             return;
@@ -119,8 +149,18 @@ public class ChatGamesCommand implements CommandExecutor, TabCompleter {
             return;
         }
 
+        if (args.length >= 2) {
+            final String gameId = args[1].toLowerCase();
+            if (gameEngine.endGame(gameId)) {
+                sendMessage(sender, Component.text("Game " + gameId + " has been stopped.", NamedTextColor.GREEN));
+            } else {
+                sendMessage(sender, Component.text("Game " + gameId + " is not active.", NamedTextColor.YELLOW));
+            }
+            return;
+        }
+
         gameEngine.endCurrentGame();
-        sendMessage(sender, Component.text("Current game has been stopped.", NamedTextColor.GREEN));
+        sendMessage(sender, Component.text("All active games have been stopped.", NamedTextColor.GREEN));
     }
 
     /**
@@ -134,8 +174,8 @@ public class ChatGamesCommand implements CommandExecutor, TabCompleter {
                 .append(Component.text(plugin.getDescription().getVersion(), NamedTextColor.WHITE)));
         sendMessage(sender, Component.text("Registered Games: ", NamedTextColor.GRAY)
                 .append(Component.text(gameRegistry.getRegisteredGameCount(), NamedTextColor.WHITE)));
-        sendMessage(sender, Component.text("Active Game: ", NamedTextColor.GRAY)
-                .append(Component.text(gameEngine.isGameActive() ? "Yes" : "No",
+        sendMessage(sender, Component.text("Active Games: ", NamedTextColor.GRAY)
+                .append(Component.text(gameEngine.getActiveGameCount() + "/" + config.getMaxConcurrentGames(),
                         gameEngine.isGameActive() ? NamedTextColor.GREEN : NamedTextColor.RED)));
         sendMessage(sender, Component.text("Scheduler: ", NamedTextColor.GRAY)
                 .append(Component.text(config.isSchedulerEnabled() ? "Enabled" : "Disabled",
@@ -179,6 +219,8 @@ public class ChatGamesCommand implements CommandExecutor, TabCompleter {
         sendMessage(sender, Component.text("Reloading plugin...", NamedTextColor.YELLOW));
 
         if (plugin.reloadPlugin()) {
+            // Game display names may have changed
+            statCards.clear();
             sendMessage(sender, Component.text("Plugin reloaded successfully.", NamedTextColor.GREEN));
         } else {
             sendMessage(sender, Component.text("Plugin reload failed. Check console for errors.", NamedTextColor.RED));
@@ -203,18 +245,248 @@ public class ChatGamesCommand implements CommandExecutor, TabCompleter {
         }
     }
 
+    /**
+     * Handle /chatgames top [daily|weekly|monthly|game] [page]
+     */
+    private void handleTop(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("nebrix.cg.top")) {
+            sendMessage(sender, Component.text("You don't have permission to view the leaderboard.", NamedTextColor.RED));
+            return;
+        }
+
+        ChatGame game = null;
+        WindowedLeaderboards.Window window = null;
+        int page = 1;
+        for (int i = 1; i < args.length; i++) {
+            final String arg = args[i].toLowerCase();
+            try {
+                page = Integer.parseInt(arg);
+                continue;
+            } catch (NumberFormatException ignored) {
+                // Not a page number
+            }
+
+            switch (arg) {
+                case "daily" -> window = WindowedLeaderboards.Window.DAILY;
+                case "weekly" -> window = WindowedLeaderboards.Window.WEEKLY;
+                case "monthly" -> window = WindowedLeaderboards.Window.MONTHLY;
+                default -> {
+                    game = gameRegistry.getGame(arg).orElse(null);
+                    if (game == null) {
+                        sendMessage(sender, Component.text("Unknown game or period: " + args[i], NamedTextColor.RED));
+                        return;
+                    }
+                }
+            }
+        }
+
+        final LeaderboardManager leaderboards = plugin.getLeaderboardManager();
+        final Leaderboard board;
+        final String title;
+        if (window != null) {
+            board = leaderboards.getWindows().getCurrent(window);
+            title = switch (window) {
+                case DAILY -> " - Today";
+                case WEEKLY -> " - This Week";
+                case MONTHLY -> " - This Month";
+            };
+        } else if (game != null) {
+            board = leaderboards.getGame(game.getId());
+            title = " - " + game.getDisplayName();
+        } else {
+            board = leaderboards.getGlobal();
+            title = "";
+        }
+
+        final int pages = Math.max(1, (board.size() + TOP_PAGE_SIZE - 1) / TOP_PAGE_SIZE);
+        page = Math.max(1, Math.min(page, pages));
+
+        final Component prefix = TextUtils.getPrefix(plugin);
+        sendMessage(sender, prefix.append(Component.text(" Top Players" + title
+                + " (" + page + "/" + pages + ")", NamedTextColor.AQUA)));
+
+        if (window != null) {
+            final List<Leaderboard.Entry> champion = leaderboards.getWindows().getPrevious(window).getTop(0, 1);
+            if (!champion.isEmpty()) {
+                final String period = switch (window) {
+                    case DAILY -> "Yesterday's";
+                    case WEEKLY -> "Last week's";
+                    case MONTHLY -> "Last month's";
+                };
+                sendMessage(sender, Component.text(period + " champion: ", NamedTextColor.GRAY)
+                        .append(Component.text(getPlayerName(champion.get(0).playerId()), NamedTextColor.GOLD))
+                        .append(Component.text(" (" + champion.get(0).score() + " wins)", NamedTextColor.GRAY)));
+            }
+        } else if (!leaderboards.isReady()) {
+            sendMessage(sender, Component.text("Leaderboard is still loading, showing players seen so far.",
+                    NamedTextColor.GRAY));
+        }
+
+        final List<Leaderboard.Entry> entries = board.getTop((page - 1) * TOP_PAGE_SIZE, TOP_PAGE_SIZE);
+        if (entries.isEmpty()) {
+            sendMessage(sender, Component.text("No wins recorded yet.", NamedTextColor.YELLOW));
+        }
+        for (Leaderboard.Entry entry : entries) {
+            sendMessage(sender, Component.text("#" + entry.rank() + " ", NamedTextColor.GOLD)
+                    .append(Component.text(getPlayerName(entry.playerId()), NamedTextColor.WHITE))
+                    .append(Component.text(" - " + entry.score() + " wins", NamedTextColor.GRAY)));
+        }
+
+        if (sender instanceof Player player) {
+            final int rank = board.getRank(player.getUniqueId());
+            sendMessage(sender, rank > 0
+                    ? Component.text("Your rank: ", NamedTextColor.GRAY)
+                            .append(Component.text("#" + rank, NamedTextColor.GOLD))
+                            .append(Component.text(" (" + board.getScore(player.getUniqueId()) + " wins)",
+                                    NamedTextColor.GRAY))
+                    : Component.text("You are not ranked yet.", NamedTextColor.GRAY));
+        }
+    }
+
+    /**
+     * Resolve a display name without a profile lookup
+     */
+    private String getPlayerName(UUID playerId) {
+        final String name = plugin.getServer().getOfflinePlayer(playerId).getName();
+        return name != null ? name : playerId.toString().substring(0, 8);
+    }
+
     /**
      * Handle /chatgames stats [player]
      */
     private void handleStats(CommandSender sender, String[] args) {
-        if (!sender.hasPermission("nebrixchatgames.stats")) {
+        if (!sender.hasPermission("nebrix.cg.stats")) {
             sendMessage(sender, Component.text("You don't have permission to view stats.", NamedTextColor.RED));
             return;
         }
 
-        // For now, just show a placeholder message
-        // This would integrate with the PlayerDataManager in a full implementation
-        sendMessage(sender, Component.text("Stats feature coming soon!", NamedTextColor.YELLOW));
+        final UUID targetId;
+        final String targetName;
+        if (args.length >= 2) {
+            // Only players the server already knows are resolved, so a name never triggers a profile request
+            final Player online = plugin.getServer().getPlayerExact(args[1]);
+            final OfflinePlayer target = online != null ? online : plugin.getServer().getOfflinePlayerIfCached(args[1]);
+            if (target == null) {
+                sendMessage(sender, Component.text("Unknown player: " + args[1], NamedTextColor.RED));
+                return;
+            }
+            targetId = target.getUniqueId();
+            targetName = target.getName() != null ? target.getName() : args[1];
+        } else if (sender instanceof Player player) {
+            targetId = player.getUniqueId();
+            targetName = player.getName();
+        } else {
+            sendMessage(sender, Component.text("Usage: /chatgames stats <player>", NamedTextColor.YELLOW));
+            return;
+        }
+
+        // Cached players are answered right away; everyone else is loaded on a loader thread
+        final CompletableFuture<PlayerData> load = plugin.getPlayerDataManager().loadPlayerDataAsync(targetId);
+        if (load.isDone() && !load.isCompletedExceptionally()) {
+            sendStatCard(sender, load.join(), targetName);
+            return;
+        }
+
+        load.whenComplete((data, error) -> plugin.getPlatformScheduler().runGlobal(() -> {
+            if (error != null) {
+                plugin.getLogger().log(Level.WARNING, "Failed to load stats of " + targetName, error);
+                sendMessage(sender, Component.text("Could not load stats of " + targetName + ".", NamedTextColor.RED));
+                return;
+            }
+            sendStatCard(sender, data, targetName);
+        }));
+    }
+
+    /**
+     * Send the cached stat card of a loaded player
+     */
+    private void sendStatCard(CommandSender sender, PlayerData data, String name) {
+        for (Component line : statCards.getCard(data, name)) {
+            sendMessage(sender, line);
+        }
+    }
+
+    /**
+     * Handle /chatgames metrics [reset]
+     */
+    private void handleMetrics(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("nebrix.cg.admin.metrics")) {
+            sendMessage(sender, Component.text("You don't have permission to view metrics.", NamedTextColor.RED));
+            return;
+        }
+
+        final AnswerPipeline pipeline = gameEngine.getAnswerPipeline();
+        final MainThreadQueue queue = plugin.getMainThreadQueue();
+
+        if (args.length >= 2 && args[1].equalsIgnoreCase("reset")) {
+            pipeline.resetCounters();
+            queue.resetMetrics();
+            gameEngine.getAnswerBatcher().resetMetrics();
+            plugin.getPlayerDataManager().getFlushMetrics().reset();
+            plugin.getPlayerDataManager().getPlayerCache().resetMetrics();
+            statCards.resetMetrics();
+            sendMessage(sender, Component.text("Metrics have been reset.", NamedTextColor.GREEN));
+            return;
+        }
+
+        final Component prefix = TextUtils.getPrefix(plugin);
+        sendMessage(sender, prefix.append(Component.text(" Answer Pipeline", NamedTextColor.AQUA)));
+
+        for (Map.Entry<AnswerPipeline.Stage, Long> entry : pipeline.getCounters().entrySet()) {
+            sendMessage(sender, Component.text("  " + entry.getKey().name().toLowerCase() + ": ", NamedTextColor.GRAY)
+                    .append(Component.text(entry.getValue(), NamedTextColor.WHITE)));
+        }
+
+        sendMessage(sender, prefix.append(Component.text(" Main Thread Queue", NamedTextColor.AQUA)));
+        sendMetric(sender, "depth", queue.getDepth() + "/" + queue.getCapacity());
+        sendMetric(sender, "submitted", String.valueOf(queue.getSubmittedCount()));
+        sendMetric(sender, "overflowed", String.valueOf(queue.getOverflowCount()));
+        sendMetric(sender, "drain latency (last/avg/max)", String.format("%.2f / %.2f / %.2f ms",
+                queue.getLastLatencyNanos() / 1_000_000.0,
+                queue.getAverageLatencyNanos() / 1_000_000.0,
+                queue.getMaxLatencyNanos() / 1_000_000.0));
+
+        final AnswerBatcher batcher = gameEngine.getAnswerBatcher();
+        sendMessage(sender, prefix.append(Component.text(" Answer Batches", NamedTextColor.AQUA)));
+        sendMetric(sender, "published", String.valueOf(batcher.getBatchCount()));
+        sendMetric(sender, "pending", String.valueOf(batcher.getPendingCount()));
+        sendMetric(sender, "dropped", String.valueOf(batcher.getDroppedCount()));
+
+        final PlayerDataManager dataManager = plugin.getPlayerDataManager();
+        final FlushMetrics flush = dataManager.getFlushMetrics();
+        sendMessage(sender, prefix.append(Component.text(" Storage (" + dataManager.getStorageName() + ")",
+                NamedTextColor.AQUA)));
+        sendMetric(sender, "flushes", flush.getFlushCount() + " (" + flush.getFailureCount() + " failed)");
+        sendMetric(sender, "records flushed", String.valueOf(flush.getRecordCount()));
+        sendMetric(sender, "bytes written", String.valueOf(flush.getByteCount()));
+        sendMetric(sender, "flush duration (last/avg/max)", String.format("%.2f / %.2f / %.2f ms",
+                flush.getLastNanos() / 1_000_000.0,
+                flush.getAverageNanos() / 1_000_000.0,
+                flush.getMaxNanos() / 1_000_000.0));
+
+        final PlayerCache cache = dataManager.getPlayerCache();
+        final long lookups = cache.getHitCount() + cache.getMissCount();
+        sendMessage(sender, prefix.append(Component.text(" Player Cache", NamedTextColor.AQUA)));
+        sendMetric(sender, "size", cache.size() + "/" + config.getPlayerCacheMaxSize()
+                + " (" + cache.getOnlineCount() + " online)");
+        sendMetric(sender, "hits", cache.getHitCount() + String.format(" (%.1f%%)",
+                lookups > 0 ? cache.getHitCount() * 100.0 / lookups : 0.0));
+        sendMetric(sender, "misses", String.valueOf(cache.getMissCount()));
+        sendMetric(sender, "evictions", String.valueOf(cache.getEvictionCount()));
+        sendMetric(sender, "pending loads", String.valueOf(dataManager.getPendingLoadCount()));
+
+        sendMessage(sender, prefix.append(Component.text(" Stat Cards", NamedTextColor.AQUA)));
+        sendMetric(sender, "cached", String.valueOf(statCards.size()));
+        sendMetric(sender, "served from cache", String.valueOf(statCards.getHitCount()));
+        sendMetric(sender, "built", String.valueOf(statCards.getBuildCount()));
+    }
+
+    /**
+     * Send a single metrics line
+     */
+    private void sendMetric(CommandSender sender, String name, String value) {
+        sendMessage(sender, Component.text("  " + name + ": ", NamedTextColor.GRAY)
+                .append(Component.text(value, NamedTextColor.WHITE)));
     }
 
     /**
@@ -226,8 +498,8 @@ public class ChatGamesCommand implements CommandExecutor, TabCompleter {
         sendMessage(sender, prefix.append(Component.text(" Commands", NamedTextColor.AQUA)));
         sendMessage(sender, Component.text("/chatgames start <game>", NamedTextColor.AQUA)
                 .append(Component.text(" - Start a specific game", NamedTextColor.GRAY)));
-        sendMessage(sender, Component.text("/chatgames stop", NamedTextColor.AQUA)
-                .append(Component.text(" - Stop the current game", NamedTextColor.GRAY)));
+        sendMessage(sender, Component.text("/chatgames stop [game]", NamedTextColor.AQUA)
+                .append(Component.text(" - Stop one or all active games", NamedTextColor.GRAY)));
         sendMessage(sender, Component.text("/chatgames info", NamedTextColor.AQUA)
                 .append(Component.text(" - Show plugin information", NamedTextColor.GRAY)));
         sendMessage(sender, Component.text("/chatgames list", NamedTextColor.AQUA)
@@ -236,8 +508,12 @@ public class ChatGamesCommand implements CommandExecutor, TabCompleter {
                 .append(Component.text(" - Reload configuration", NamedTextColor.GRAY)));
         sendMessage(sender, Component.text("/chatgames toggle", NamedTextColor.AQUA)
                 .append(Component.text(" - Toggle auto-scheduler", NamedTextColor.GRAY)));
+        sendMessage(sender, Component.text("/chatgames top [daily|weekly|monthly|game] [page]", NamedTextColor.AQUA)
+                .append(Component.text(" - Show the win leaderboard", NamedTextColor.GRAY)));
         sendMessage(sender, Component.text("/chatgames stats [player]", NamedTextColor.AQUA)
                 .append(Component.text(" - View player statistics", NamedTextColor.GRAY)));
+        sendMessage(sender, Component.text("/chatgames metrics [reset]", NamedTextColor.AQUA)
+                .append(Component.text(" - Show performance counters", NamedTextColor.GRAY)));
     }
 
     /**
@@ -272,7 +548,14 @@ public class ChatGamesCommand implements CommandExecutor, TabCompleter {
             final String input = args[1].toLowerCase();
 
             switch (subcommand) {
-                case "start" -> {
+                case "top" -> {
+                    // Add periods and game IDs
+                    completions.addAll(Stream.concat(Stream.of("daily", "weekly", "monthly"),
+                                    gameRegistry.getAllGames().stream().map(ChatGame::getId))
+                            .filter(option -> option.startsWith(input))
+                            .collect(Collectors.toList()));
+                }
+                case "start", "stop" -> {
                     // Add available game IDs
                     completions.addAll(gameRegistry.getAllGames().stream()
                             .map(ChatGame::getId)
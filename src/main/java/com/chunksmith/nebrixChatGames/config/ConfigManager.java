@@ -1,11 +1,19 @@
 package com.chunksmith.nebrixChatGames.config;
 
 import com.chunksmith.nebrixChatGames.NebrixChatGames;
+import com.chunksmith.nebrixChatGames.util.AnswerNormalizer;
+import com.chunksmith.nebrixChatGames.util.ConfusablesTable;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 
+import java.io.InputStream;
+import java.time.DateTimeException;
+import java.time.ZoneId;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
 
@@ -21,6 +29,9 @@ public class ConfigManager {
     // Configuration cache for frequently accessed values
     private volatile ConfigCache cache;
 
+    // Lookalike table from the bundled data file, loaded once
+    private ConfusablesTable confusables;
+
     public ConfigManager(NebrixChatGames plugin) {
         this.plugin = plugin;
     }
@@ -44,6 +55,11 @@ public class ConfigManager {
                 return false;
             }
 
+            // Lookalike table is needed by the answer normalizers
+            if (confusables == null) {
+                confusables = loadConfusables();
+            }
+
             // Build cache
             this.cache = buildConfigCache();
 
@@ -95,10 +111,49 @@ public class ConfigManager {
         if (rateLimit <= 0 || rateLimit > 20) {
             plugin.getLogger().warning("Invalid rate-limit-per-sec: " + rateLimit + " (using default: 3)");
         }
+        final int chatLimit = config.getInt("settings.anti-cheat.chat-limit-per-sec", 6);
+        if (chatLimit <= 0 || chatLimit > 40) {
+            plugin.getLogger().warning("Invalid chat-limit-per-sec: " + chatLimit + " (using default: 6)");
+        }
 
         return valid;
     }
 
+    /**
+     * Load the bundled lookalike character table
+     * @return Parsed table, or an empty table if the data file is missing or broken
+     */
+    private ConfusablesTable loadConfusables() {
+        try (InputStream stream = plugin.getResource(ConfusablesTable.RESOURCE)) {
+            if (stream == null) {
+                plugin.getLogger().warning("Missing " + ConfusablesTable.RESOURCE + ", homoglyph folding is limited to diacritics");
+                return ConfusablesTable.empty();
+            }
+
+            final ConfusablesTable table = ConfusablesTable.load(stream);
+            plugin.getLogger().info("Loaded " + table.size() + " lookalike character mappings");
+            return table;
+
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to load " + ConfusablesTable.RESOURCE, e);
+            return ConfusablesTable.empty();
+        }
+    }
+
+    /**
+     * Read typo tolerances per game type; the "default" entry applies to unlisted games
+     */
+    private Map<String, Integer> loadLevenshteinTolerances() {
+        final Map<String, Integer> tolerances = new HashMap<>();
+        final ConfigurationSection section = config.getConfigurationSection("settings.anti-cheat.levenshtein-tolerance");
+        if (section != null) {
+            for (String gameType : section.getKeys(false)) {
+                tolerances.put(gameType, Math.max(0, section.getInt(gameType, 0)));
+            }
+        }
+        return tolerances;
+    }
+
     /**
      * Build configuration cache for performance
      */
@@ -107,6 +162,7 @@ public class ConfigManager {
                 // General settings
                 config.getString("settings.prefix", "<gradient:#FF5EDF:#00C9FF><bold>CHAT GAMES</bold></gradient> <gray>»</gray>"),
                 config.getStringList("settings.disabled-worlds"),
+                Set.copyOf(config.getStringList("settings.disabled-worlds")),
                 config.getBoolean("settings.use-permission-toplay", false),
                 Math.max(1, config.getInt("settings.min-players-online", 1)),
 
@@ -121,8 +177,18 @@ public class ConfigManager {
 
                 // Anti-cheat settings
                 Math.max(1, Math.min(20, config.getInt("settings.anti-cheat.rate-limit-per-sec", 3))),
+                Math.max(1, Math.min(40, config.getInt("settings.anti-cheat.chat-limit-per-sec", 6))),
                 config.getBoolean("settings.anti-cheat.strip-colors", true),
                 config.getBoolean("settings.anti-cheat.normalize-homoglyphs", true),
+                loadLevenshteinTolerances(),
+                AnswerNormalizer.compile(confusables,
+                        config.getBoolean("settings.anti-cheat.strip-colors", true),
+                        config.getBoolean("settings.anti-cheat.normalize-homoglyphs", true),
+                        true),
+                AnswerNormalizer.compile(confusables,
+                        config.getBoolean("settings.anti-cheat.strip-colors", true),
+                        config.getBoolean("settings.anti-cheat.normalize-homoglyphs", true),
+                        false),
 
                 // UI settings
                 config.getBoolean("settings.round.play-sound", true),
@@ -133,13 +199,17 @@ public class ConfigManager {
                 // Integration settings
                 config.getBoolean("integration.economy.enabled", true),
                 config.getString("integration.economy.provider", "vault"),
-                config.getString("integration.crystals.award-command", "eco give %player% %amount%")
+                config.getString("integration.crystals.award-command", "eco give %player% %amount%"),
+
+                // Chat settings
+                config.getString("settings.chat.ingest-mode", "auto")
         );
     }
 
     // Cached getters for frequently accessed values
     public String getPrefix() { return cache.prefix; }
     public List<String> getDisabledWorlds() { return cache.disabledWorlds; }
+    public boolean isWorldDisabled(String worldName) { return cache.disabledWorldSet.contains(worldName); }
     public boolean requiresPermissionToPlay() { return cache.requiresPermissionToPlay; }
     public int getMinPlayersOnline() { return cache.minPlayersOnline; }
     public int getGameTimeout() { return cache.gameTimeout; }
@@ -148,8 +218,12 @@ public class ConfigManager {
     public boolean isSchedulerEnabled() { return cache.schedulerEnabled; }
     public int getSchedulerInterval() { return cache.schedulerInterval; }
     public int getRateLimit() { return cache.rateLimit; }
+    public int getChatRateLimit() { return cache.chatRateLimit; }
     public boolean shouldStripColors() { return cache.stripColors; }
     public boolean shouldNormalizeHomoglyphs() { return cache.normalizeHomoglyphs; }
+    public AnswerNormalizer getAnswerNormalizer(boolean caseSensitive) {
+        return caseSensitive ? cache.caseSensitiveNormalizer : cache.caseInsensitiveNormalizer;
+    }
     public boolean shouldPlaySounds() { return cache.playSounds; }
     public String getStartSound() { return cache.startSound; }
     public boolean shouldShowBossbar() { return cache.showBossbar; }
@@ -157,6 +231,7 @@ public class ConfigManager {
     public boolean isEconomyEnabled() { return cache.economyEnabled; }
     public String getEconomyProvider() { return cache.economyProvider; }
     public String getCrystalCommand() { return cache.crystalCommand; }
+    public String getChatIngestMode() { return cache.chatIngestMode; }
 
     /**
      * Check if a specific game is enabled
@@ -191,7 +266,8 @@ public class ConfigManager {
      * @return Maximum allowed edit distance
      */
     public int getLevenshteinTolerance(String gameType) {
-        return Math.max(0, config.getInt("settings.anti-cheat.levenshtein-tolerance." + gameType, 0));
+        final Integer tolerance = cache.levenshteinTolerances.get(gameType);
+        return tolerance != null ? tolerance : cache.levenshteinTolerances.getOrDefault("default", 0);
     }
 
     // Reward configuration methods
@@ -273,6 +349,44 @@ public class ConfigManager {
         return config.getString("games.unscramble.scramble-swaps", "3-6");
     }
 
+    public String getWordsFile() {
+        final String file = config.getString("words.file", "words.yml");
+        return file == null || file.isBlank() ? "words.yml" : file.trim();
+    }
+
+    public int getRecentWordMemory() {
+        return Math.max(0, Math.min(1000, config.getInt("words.recent-memory", 20)));
+    }
+
+    /**
+     * Get the word pack tags a game's words must carry
+     * @param gameId The game ID
+     * @return Lower-case tags, empty for any word
+     */
+    public List<String> getGameWordTags(String gameId) {
+        return config.getStringList("games." + gameId + ".tags").stream()
+                .map(tag -> tag.trim().toLowerCase(Locale.ROOT))
+                .filter(tag -> !tag.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    public int getGameMinDifficulty(String gameId) {
+        return Math.max(1, Math.min(5, config.getInt("games." + gameId + ".min-difficulty", 1)));
+    }
+
+    public int getGameMaxDifficulty(String gameId) {
+        return Math.max(getGameMinDifficulty(gameId), Math.min(5, config.getInt("games." + gameId + ".max-difficulty", 5)));
+    }
+
+    public int getReactionMinLength() {
+        return Math.max(1, config.getInt("games.reaction.min-length", 3));
+    }
+
+    public int getReactionMaxLength() {
+        return Math.max(getReactionMinLength(), config.getInt("games.reaction.max-length", 8));
+    }
+
     public int getMathDifficulty() {
         return Math.max(1, Math.min(5, config.getInt("games.math.difficulty", 2)));
     }
@@ -286,6 +400,58 @@ public class ConfigManager {
         return config.getBoolean("games.math.division-integers-only", true);
     }
 
+    // Storage settings
+    public String getStorageType() {
+        return config.getString("storage.type", "yaml").toLowerCase(Locale.ROOT);
+    }
+
+    public String getSqliteFile() {
+        return config.getString("storage.sqlite-file", "chatgames.db");
+    }
+
+    public long getJournalCompactBytes() {
+        return Math.max(64, config.getInt("storage.journal-compact-size-kb", 4096)) * 1024L;
+    }
+
+    public int getStorageFlushInterval() {
+        return Math.max(1, config.getInt("storage.flush-interval-seconds", 30));
+    }
+
+    // Leaderboard settings
+    public ZoneId getLeaderboardZone() {
+        final String zone = config.getString("leaderboards.timezone", "");
+        if (zone == null || zone.isBlank()) {
+            return ZoneId.systemDefault();
+        }
+        try {
+            return ZoneId.of(zone);
+        } catch (DateTimeException e) {
+            plugin.getLogger().warning("Invalid leaderboards.timezone '" + zone + "', using the server time zone");
+            return ZoneId.systemDefault();
+        }
+    }
+
+    // Performance settings
+    public int getPlayerCacheMaxSize() {
+        return Math.max(100, config.getInt("performance.player-cache.max-size", 5000));
+    }
+
+    public long getPlayerCacheIdleMillis() {
+        return Math.max(1, config.getInt("performance.player-cache.idle-minutes", 10)) * 60_000L;
+    }
+
+    public int getPlayerLoadThreads() {
+        return Math.max(1, Math.min(8, config.getInt("performance.player-cache.load-threads", 2)));
+    }
+
+    public int getMaxConcurrentGames() {
+        return Math.max(1, config.getInt("performance.max-concurrent-games", 1));
+    }
+
+    public int getMainThreadQueueCapacity() {
+        return Math.max(16, config.getInt("performance.main-thread-queue-capacity", 256));
+    }
+
     // Debug settings
     public boolean isDebugEnabled() {
         return config.getBoolean("debug.verbose", false);
@@ -313,6 +479,7 @@ public class ConfigManager {
     private record ConfigCache(
             String prefix,
             List<String> disabledWorlds,
+            Set<String> disabledWorldSet,
             boolean requiresPermissionToPlay,
             int minPlayersOnline,
             int gameTimeout,
@@ -321,19 +488,25 @@ public class ConfigManager {
             boolean schedulerEnabled,
             int schedulerInterval,
             int rateLimit,
+            int chatRateLimit,
             boolean stripColors,
             boolean normalizeHomoglyphs,
+            Map<String, Integer> levenshteinTolerances,
+            AnswerNormalizer caseSensitiveNormalizer,
+            AnswerNormalizer caseInsensitiveNormalizer,
             boolean playSounds,
             String startSound,
             boolean showBossbar,
             boolean showTitles,
             boolean economyEnabled,
             String economyProvider,
-            String crystalCommand
+            String crystalCommand,
+            String chatIngestMode
     ) {
         public ConfigCache {
             // Make defensive copies of mutable collections
             disabledWorlds = List.copyOf(disabledWorlds);
+            levenshteinTolerances = Map.copyOf(levenshteinTolerances);
         }
     }
 }
\ No newline at end of file
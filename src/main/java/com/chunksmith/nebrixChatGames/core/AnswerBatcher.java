@@ -0,0 +1,107 @@
+package com.chunksmith.nebrixChatGames.core;
+
+import com.chunksmith.nebrixChatGames.NebrixChatGames;
+import com.chunksmith.nebrixChatGames.api.ChatGame;
+import com.chunksmith.nebrixChatGames.api.GameRound;
+import com.chunksmith.nebrixChatGames.api.events.AnswerBatchEvent;
+import com.chunksmith.nebrixChatGames.platform.ScheduledHandle;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+
+/**
+ * Collects answers from the chat thread and publishes them as one {@link AnswerBatchEvent} per tick
+ * Answers are only collected while the batch event has listeners
+ */
+public class AnswerBatcher {
+
+    // Upper bound of answers held between two ticks
+    private static final int MAX_PENDING = 4096;
+
+    private final NebrixChatGames plugin;
+    private final ArrayBlockingQueue<AnswerBatchEvent.Answer> pending = new ArrayBlockingQueue<>(MAX_PENDING);
+    private final List<AnswerBatchEvent.Answer> drainBuffer = new ArrayList<>();
+
+    private volatile ScheduledHandle flushTask;
+
+    // Metrics
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public AnswerBatcher(NebrixChatGames plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Start publishing batches once per tick
+     */
+    public void start() {
+        if (flushTask == null) {
+            flushTask = plugin.getPlatformScheduler().runGlobalTimer(this::flush, 1L, 1L);
+        }
+    }
+
+    /**
+     * Stop publishing and discard anything still pending
+     */
+    public void stop() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        pending.clear();
+    }
+
+    /**
+     * Queue an answer for the next batch
+     * Safe to call from any thread; a no-op when nobody listens for batches
+     */
+    public void add(Player player, ChatGame game, GameRound round, String answer, boolean correct, long timestamp) {
+        if (!AnswerBatchEvent.hasListeners()) {
+            return;
+        }
+
+        if (!pending.offer(new AnswerBatchEvent.Answer(player, game, round, answer, correct, timestamp))) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Publish everything received since the last tick
+     */
+    private void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        drainBuffer.clear();
+        pending.drainTo(drainBuffer);
+
+        try {
+            Bukkit.getPluginManager().callEvent(new AnswerBatchEvent(drainBuffer));
+            batches.increment();
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "Error publishing answer batch", e);
+        } finally {
+            drainBuffer.clear();
+        }
+    }
+
+    // Metrics getters
+    public long getBatchCount() { return batches.sum(); }
+    public long getDroppedCount() { return dropped.sum(); }
+    public int getPendingCount() { return pending.size(); }
+
+    /**
+     * Reset batch metrics
+     */
+    public void resetMetrics() {
+        batches.reset();
+        dropped.reset();
+    }
+}
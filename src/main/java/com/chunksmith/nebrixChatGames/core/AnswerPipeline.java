@@ -0,0 +1,142 @@
+package com.chunksmith.nebrixChatGames.core;
+
+import com.chunksmith.nebrixChatGames.NebrixChatGames;
+import com.chunksmith.nebrixChatGames.config.ConfigManager;
+import org.bukkit.entity.Player;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bookkeeping for the staged answer pipeline in {@link GameEngine#processAnswer}
+ * Holds per-stage counters and the cached player eligibility used by the cheap early stages
+ */
+public class AnswerPipeline {
+
+    /**
+     * Pipeline stages in evaluation order, cheapest first
+     */
+    public enum Stage {
+        NO_ROUND,
+        DUPLICATE,
+        WARMUP,
+        INELIGIBLE,
+        RATE_LIMITED,
+        EMPTY,
+        ANSWER_LIMITED,
+        CANCELLED,
+        WRONG,
+        TOO_LATE,
+        ACCEPTED
+    }
+
+    // How long a cached eligibility result is trusted before permission and world are checked again
+    private static final long ELIGIBILITY_TTL_MS = 5000L;
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private final NebrixChatGames plugin;
+    private final LongAdder[] counters = new LongAdder[STAGES.length];
+    private final ConcurrentHashMap<UUID, Eligibility> eligibility = new ConcurrentHashMap<>();
+
+    public AnswerPipeline(NebrixChatGames plugin) {
+        this.plugin = plugin;
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record that a message left the pipeline at the given stage
+     * @param stage The stage that rejected (or accepted) the message
+     * @return true only for {@link Stage#ACCEPTED}, so callers can return the result directly
+     */
+    public boolean record(Stage stage) {
+        counters[stage.ordinal()].increment();
+        return stage == Stage.ACCEPTED;
+    }
+
+    /**
+     * Check whether a player may answer, using a short-lived cached result
+     * @param player The player
+     * @param now Current timestamp in milliseconds
+     * @return true if the player is eligible
+     */
+    public boolean isEligible(Player player, long now) {
+        Eligibility entry = eligibility.get(player.getUniqueId());
+        if (entry == null) {
+            entry = new Eligibility();
+            final Eligibility existing = eligibility.putIfAbsent(player.getUniqueId(), entry);
+            if (existing != null) {
+                entry = existing;
+            }
+        }
+
+        if (now - entry.checkedAt > ELIGIBILITY_TTL_MS) {
+            entry.eligible = computeEligibility(player);
+            entry.checkedAt = now;
+        }
+
+        return entry.eligible;
+    }
+
+    /**
+     * Forget the cached eligibility of a player (world change, quit)
+     * @param playerId The player's UUID
+     */
+    public void invalidate(UUID playerId) {
+        eligibility.remove(playerId);
+    }
+
+    /**
+     * Forget all cached eligibility results (config reload)
+     */
+    public void invalidateAll() {
+        eligibility.clear();
+    }
+
+    /**
+     * Get a snapshot of the per-stage counters
+     * @return Map of stages to the number of messages that ended there
+     */
+    public Map<Stage, Long> getCounters() {
+        final Map<Stage, Long> snapshot = new EnumMap<>(Stage.class);
+        for (Stage stage : STAGES) {
+            snapshot.put(stage, counters[stage.ordinal()].sum());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Reset all per-stage counters
+     */
+    public void resetCounters() {
+        for (LongAdder counter : counters) {
+            counter.reset();
+        }
+    }
+
+    /**
+     * Evaluate permission and world rules for a player
+     */
+    private boolean computeEligibility(Player player) {
+        final ConfigManager config = plugin.getConfigManager();
+
+        if (config.requiresPermissionToPlay() && !player.hasPermission("nebrixchatgames.play")) {
+            return false;
+        }
+
+        return !config.isWorldDisabled(player.getWorld().getName());
+    }
+
+    /**
+     * Mutable cache slot, updated in place so rechecks never allocate
+     */
+    private static final class Eligibility {
+        volatile boolean eligible;
+        volatile long checkedAt = Long.MIN_VALUE / 2;
+    }
+}
@@ -7,18 +7,24 @@ import com.chunksmith.nebrixChatGames.api.events.GameEndEvent;
 import com.chunksmith.nebrixChatGames.api.events.GameStartEvent;
 import com.chunksmith.nebrixChatGames.api.events.PlayerAnswerEvent;
 import com.chunksmith.nebrixChatGames.data.PlayerDataManager;
+import com.chunksmith.nebrixChatGames.platform.ScheduledHandle;
 import com.chunksmith.nebrixChatGames.rewards.RewardManager;
 import com.chunksmith.nebrixChatGames.ui.MessageManager;
 import com.chunksmith.nebrixChatGames.util.RateLimiter;
 import com.chunksmith.nebrixChatGames.util.TextUtils;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 
 /**
@@ -27,18 +33,30 @@ import java.util.logging.Level;
  */
 public class GameEngine {
 
+    private static final PlainTextComponentSerializer PLAIN_TEXT = PlainTextComponentSerializer.plainText();
+
     private final NebrixChatGames plugin;
     private final GameRegistry gameRegistry;
     private final MessageManager messageManager;
     private final RewardManager rewardManager;
     private final PlayerDataManager playerDataManager;
 
-    // Thread-safe game state
-    private final AtomicReference<ActiveGame> activeGame = new AtomicReference<>();
+    // Hands resolved rounds from the chat thread to the main thread
+    private final MainThreadQueue mainThreadQueue;
+
+    // Thread-safe game state: slot table of active rounds, replaced on every start and end
+    private final Object tableLock = new Object();
+    private volatile RoundTable table = RoundTable.EMPTY;
 
     // Rate limiting for players
     private final RateLimiter rateLimiter;
 
+    // Stage counters and cached eligibility for incoming answers
+    private final AnswerPipeline answerPipeline;
+
+    // Per-tick answer batches for integrations
+    private final AnswerBatcher answerBatcher;
+
     // Player cooldowns to prevent spam
     private final ConcurrentHashMap<UUID, Long> playerCooldowns = new ConcurrentHashMap<>();
 
@@ -46,27 +64,26 @@ public class GameEngine {
                       GameRegistry gameRegistry,
                       MessageManager messageManager,
                       RewardManager rewardManager,
-                      PlayerDataManager playerDataManager) {
+                      PlayerDataManager playerDataManager,
+                      MainThreadQueue mainThreadQueue) {
         this.plugin = plugin;
         this.gameRegistry = gameRegistry;
         this.messageManager = messageManager;
         this.rewardManager = rewardManager;
         this.playerDataManager = playerDataManager;
+        this.mainThreadQueue = mainThreadQueue;
         this.rateLimiter = new RateLimiter(plugin);
+        this.answerPipeline = new AnswerPipeline(plugin);
+        this.answerBatcher = new AnswerBatcher(plugin);
     }
 
     /**
      * Start a new game round
+     * Several games can run at once up to performance.max-concurrent-games, but only one round per game
      * @param gameId The ID of the game to start
      * @return true if game started successfully
      */
     public boolean startGame(String gameId) {
-        // Validate preconditions
-        if (isGameActive()) {
-            plugin.getLogger().warning("Cannot start game " + gameId + " - another game is already active");
-            return false;
-        }
-
         final Optional<ChatGame> gameOpt = gameRegistry.getGame(gameId);
         if (gameOpt.isEmpty()) {
             plugin.getLogger().warning("Cannot start game " + gameId + " - game not found");
@@ -79,6 +96,7 @@ public class GameEngine {
         }
 
         final ChatGame game = gameOpt.get();
+        ActiveGame newActiveGame = null;
 
         try {
             // Create new round
@@ -89,12 +107,19 @@ public class GameEngine {
             }
 
             // Create active game state
-            final ActiveGame newActiveGame = new ActiveGame(game, round);
+            newActiveGame = new ActiveGame(game, round, routeKey(game, round));
 
-            // Set active game atomically
-            if (!activeGame.compareAndSet(null, newActiveGame)) {
-                plugin.getLogger().warning("Race condition detected when starting game " + gameId);
-                return false;
+            // Take a free slot
+            synchronized (tableLock) {
+                if (table.find(game.getId()) != null) {
+                    plugin.getLogger().warning("Cannot start game " + gameId + " - a round is already active");
+                    return false;
+                }
+                if (table.size() >= plugin.getConfigManager().getMaxConcurrentGames()) {
+                    plugin.getLogger().warning("Cannot start game " + gameId + " - all game slots are in use");
+                    return false;
+                }
+                table = table.with(newActiveGame);
             }
 
             // Fire game start event
@@ -102,7 +127,7 @@ public class GameEngine {
             Bukkit.getPluginManager().callEvent(startEvent);
 
             if (startEvent.isCancelled()) {
-                activeGame.set(null);
+                claimRound(newActiveGame);
                 plugin.getLogger().info("Game start cancelled by event listener");
                 return false;
             }
@@ -118,7 +143,9 @@ public class GameEngine {
 
         } catch (Exception e) {
             plugin.getLogger().log(Level.SEVERE, "Error starting game " + gameId, e);
-            activeGame.set(null); // Ensure clean state
+            if (newActiveGame != null) {
+                claimRound(newActiveGame); // Ensure clean state
+            }
             return false;
         }
     }
@@ -130,80 +157,210 @@ public class GameEngine {
      * @return true if the message was processed as a game answer
      */
     public boolean processAnswer(Player player, String message) {
-        final ActiveGame current = activeGame.get();
-        if (current == null) {
-            return false; // No active game
+        return processAnswer(player, message, null);
+    }
+
+    /**
+     * Process a player's chat component as potential answer
+     * The component is only serialized once the cheap pipeline stages have passed
+     * @param player The player who sent the message
+     * @param message The message component
+     * @return true if the message was processed as a game answer
+     */
+    public boolean processAnswer(Player player, Component message) {
+        return processAnswer(player, null, message);
+    }
+
+    /**
+     * Staged answer pipeline
+     * Stages run cheapest first and the reject paths do not allocate.
+     * Only the rounds the answer index routes the message to are evaluated.
+     */
+    private boolean processAnswer(Player player, String rawMessage, Component component) {
+        // Stage 1: no active round
+        final RoundTable current = table;
+        if (current.size() == 0) {
+            return answerPipeline.record(AnswerPipeline.Stage.NO_ROUND);
         }
 
-        // Check if player is eligible
-        if (!isPlayerEligible(player)) {
-            return false;
+        // Stage 2: warmup period of every active round (the only clock read of the pipeline)
+        final long now = System.currentTimeMillis();
+        if (now < current.answersOpenAt) {
+            return answerPipeline.record(AnswerPipeline.Stage.WARMUP);
         }
 
-        // Rate limiting check
-        if (!rateLimiter.checkPlayer(player)) {
-            return false;
+        // Stage 3: cached eligibility
+        if (!answerPipeline.isEligible(player, now)) {
+            return answerPipeline.record(AnswerPipeline.Stage.INELIGIBLE);
+        }
+
+        // Stage 4: chat rate limiting
+        if (!rateLimiter.checkChat(player, now)) {
+            return answerPipeline.record(AnswerPipeline.Stage.RATE_LIMITED);
         }
 
+        // Stage 5: normalization; the case-insensitive form doubles as the routing key
+        final String message = rawMessage != null ? rawMessage : PLAIN_TEXT.serialize(component);
+        final String normalizedMessage = TextUtils.normalizeAnswer(message, plugin, false);
+        if (normalizedMessage.isEmpty()) {
+            return answerPipeline.record(AnswerPipeline.Stage.EMPTY);
+        }
+
+        // Participation: a candidate answer counts for every open round, whether or not it routes there
+        recordParticipants(current, player, now);
+
+        // Stage 6: answer rate limiting, only for messages some round would look at
+        final char first = normalizedMessage.charAt(0);
+        if (!current.routes(first)) {
+            return answerPipeline.record(AnswerPipeline.Stage.WRONG);
+        }
+        if (!rateLimiter.checkAnswer(player, now)) {
+            return answerPipeline.record(AnswerPipeline.Stage.ANSWER_LIMITED);
+        }
+
+        // Stage 7+: routed rounds first, then rounds that cannot be routed by answer text
+        AnswerPipeline.Stage outcome = null;
+
+        for (ActiveGame candidate : current.bucket(first)) {
+            if (candidate.routeKey == first) {
+                outcome = furthest(outcome, evaluate(candidate, player, message, normalizedMessage, now));
+            }
+        }
+        for (ActiveGame candidate : current.wildcards) {
+            outcome = furthest(outcome, evaluate(candidate, player, message, normalizedMessage, now));
+        }
+
+        return answerPipeline.record(outcome != null ? outcome : AnswerPipeline.Stage.WRONG);
+    }
+
+    /**
+     * Count a player as taking part in every round that accepts answers
+     * Adding a player who is already in a set does not allocate
+     */
+    private static void recordParticipants(RoundTable current, Player player, long now) {
+        final UUID playerId = player.getUniqueId();
+        for (ActiveGame round : current.rounds) {
+            if (now >= round.answersOpenAt) {
+                round.participants.add(playerId);
+            }
+        }
+    }
+
+    /**
+     * Evaluate an answer against one round
+     * @return The stage the answer reached for this round
+     */
+    private AnswerPipeline.Stage evaluate(ActiveGame current, Player player, String message,
+                                          String normalizedMessage, long now) {
         final GameRound round = current.round;
 
-        // Check warmup period
-        final long timeSinceStart = System.currentTimeMillis() - round.getStartTime();
-        if (timeSinceStart < round.getWarmupDuration()) {
-            return false;
+        if (now < current.answersOpenAt) {
+            return AnswerPipeline.Stage.WARMUP;
         }
 
-        // Normalize the message
-        final String normalizedMessage = TextUtils.normalizeAnswer(message, plugin, round.isCaseSensitive());
-        if (normalizedMessage.isEmpty()) {
-            return false;
+        final String answer = round.isCaseSensitive()
+                ? TextUtils.normalizeAnswer(message, plugin, true)
+                : normalizedMessage;
+
+        // Player answer event, only built when someone listens
+        if (PlayerAnswerEvent.hasListeners()) {
+            final PlayerAnswerEvent answerEvent = new PlayerAnswerEvent(player, current.game, round, message);
+            Bukkit.getPluginManager().callEvent(answerEvent);
+
+            if (answerEvent.isCancelled()) {
+                return AnswerPipeline.Stage.CANCELLED;
+            }
         }
 
-        // Fire player answer event
-        final PlayerAnswerEvent answerEvent = new PlayerAnswerEvent(player, current.game, round, message);
-        Bukkit.getPluginManager().callEvent(answerEvent);
+        // Answer matching
+        final boolean correct = current.game.isCorrectAnswer(answer, player, round);
+        answerBatcher.add(player, current.game, round, message, correct, now);
+        if (!correct) {
+            return AnswerPipeline.Stage.WRONG;
+        }
+
+        // Claim the round; only one correct answer can win it
+        if (!claimRound(current)) {
+            return AnswerPipeline.Stage.TOO_LATE;
+        }
+
+        current.answerMillis = now - round.getStartTime();
+        resolve(current, player);
+        return AnswerPipeline.Stage.ACCEPTED;
+    }
+
+    /**
+     * Pick the stage that got furthest through the pipeline
+     */
+    private static AnswerPipeline.Stage furthest(AnswerPipeline.Stage current, AnswerPipeline.Stage next) {
+        return current == null || next.ordinal() > current.ordinal() ? next : current;
+    }
 
-        if (answerEvent.isCancelled()) {
+    /**
+     * End the active round of a game without a winner
+     * @param gameId The game ID
+     * @return true if a round was ended
+     */
+    public boolean endGame(String gameId) {
+        final ActiveGame current = table.find(gameId);
+        if (current == null || !claimRound(current)) {
             return false;
         }
 
-        // Check if answer is correct
-        final boolean correct = current.game.isCorrectAnswer(normalizedMessage, player, round);
+        resolve(current, null);
+        return true;
+    }
 
-        if (correct) {
-            // End game with winner
-            endGame(player);
-            return true;
+    /**
+     * Claim a round and remove it from the slot table
+     * @return false if the round was already claimed by someone else
+     */
+    private boolean claimRound(ActiveGame current) {
+        if (!current.claimed.compareAndSet(false, true)) {
+            return false;
         }
 
-        return false;
+        synchronized (tableLock) {
+            table = table.without(current);
+        }
+        return true;
     }
 
     /**
-     * End the current game
-     * @param winner The winning player, or null if no winner (timeout)
+     * Hand a claimed round over to the main thread
+     * Safe to call from any thread; the caller must have claimed the round
      */
-    public void endGame(Player winner) {
-        final ActiveGame current = activeGame.getAndSet(null);
-        if (current == null) {
-            return; // No active game
+    private void resolve(ActiveGame current, Player winner) {
+        // Cancel timeout task
+        final ScheduledHandle timeoutTask = current.timeoutTask;
+        if (timeoutTask != null) {
+            timeoutTask.cancel();
         }
 
-        try {
-            // Cancel timeout task
-            if (current.timeoutTask != null) {
-                current.timeoutTask.cancel();
-            }
+        mainThreadQueue.submit(() -> finishGame(current, winner));
+    }
 
+    /**
+     * Fire events, grant rewards and broadcast the result of a claimed round
+     * Runs on the main thread
+     */
+    private void finishGame(ActiveGame current, Player winner) {
+        try {
             // Fire game end event
             final GameEndEvent endEvent = new GameEndEvent(current.game, current.round, winner);
             Bukkit.getPluginManager().callEvent(endEvent);
 
+            // Everyone who answered played this round, won or not
+            for (UUID participant : current.participants) {
+                playerDataManager.recordParticipation(participant);
+            }
+
             // Handle rewards if there's a winner
             if (winner != null) {
                 try {
                     rewardManager.grantRewards(winner, current.game, current.round);
-                    playerDataManager.incrementWins(winner.getUniqueId(), current.game.getId());
+                    playerDataManager.incrementWins(winner.getUniqueId(), current.game.getId(),
+                            current.answerMillis);
                 } catch (Exception e) {
                     plugin.getLogger().log(Level.SEVERE,
                             "Error granting rewards to winner " + winner.getName(), e);
@@ -213,8 +370,10 @@ public class GameEngine {
             // Broadcast game end
             messageManager.broadcastGameEnd(current.game, current.round, winner);
 
-            // Clean up player cooldowns
-            playerCooldowns.clear();
+            // Clean up player cooldowns once nothing is running
+            if (!isGameActive()) {
+                playerCooldowns.clear();
+            }
 
             plugin.getLogger().info("Ended game: " + current.game.getId() +
                     (winner != null ? " (winner: " + winner.getName() + ")" : " (timeout)"));
@@ -225,36 +384,94 @@ public class GameEngine {
     }
 
     /**
-     * Force end the current game (used during shutdown)
+     * Force end all active games (used during shutdown)
      */
     public void endCurrentGame() {
-        endGame(null);
+        for (ActiveGame current : table.rounds) {
+            if (claimRound(current)) {
+                resolve(current, null);
+            }
+        }
     }
 
     /**
-     * Check if a game is currently active
+     * Check if any game is currently active
      * @return true if a game is active
      */
     public boolean isGameActive() {
-        return activeGame.get() != null;
+        return table.size() > 0;
+    }
+
+    /**
+     * Check if a specific game has an active round
+     * @param gameId The game ID
+     * @return true if the game is running
+     */
+    public boolean isGameRunning(String gameId) {
+        return table.find(gameId) != null;
     }
 
     /**
-     * Get the current active game round
-     * @return Optional containing the active round, or empty if no game is active
+     * Check if another round can be started
+     * @return true if a game slot is free
      */
-    public Optional<GameRound> getCurrentRound() {
-        final ActiveGame current = activeGame.get();
+    public boolean hasFreeSlot() {
+        return table.size() < plugin.getConfigManager().getMaxConcurrentGames();
+    }
+
+    /**
+     * Get the number of active rounds
+     * @return Active round count
+     */
+    public int getActiveGameCount() {
+        return table.size();
+    }
+
+    /**
+     * Get the active round of a game
+     * @param gameId The game ID
+     * @return Optional containing the active round, or empty if the game is not running
+     */
+    public Optional<GameRound> getRound(String gameId) {
+        final ActiveGame current = table.find(gameId);
         return current != null ? Optional.of(current.round) : Optional.empty();
     }
 
     /**
-     * Get the current active game
-     * @return Optional containing the active game, or empty if no game is active
+     * Get all active rounds
+     * @return Active rounds in start order
+     */
+    public List<GameRound> getActiveRounds() {
+        final ActiveGame[] rounds = table.rounds;
+        final List<GameRound> result = new ArrayList<>(rounds.length);
+        for (ActiveGame current : rounds) {
+            result.add(current.round);
+        }
+        return result;
+    }
+
+    /**
+     * Get the answer pipeline (stage counters and eligibility cache)
+     * @return The answer pipeline
+     */
+    public AnswerPipeline getAnswerPipeline() {
+        return answerPipeline;
+    }
+
+    /**
+     * Get the per-player chat and answer rate limiter
+     * @return The rate limiter
      */
-    public Optional<ChatGame> getCurrentGame() {
-        final ActiveGame current = activeGame.get();
-        return current != null ? Optional.of(current.game) : Optional.empty();
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Get the per-tick answer batcher
+     * @return The answer batcher
+     */
+    public AnswerBatcher getAnswerBatcher() {
+        return answerBatcher;
     }
 
     /**
@@ -272,35 +489,29 @@ public class GameEngine {
     }
 
     /**
-     * Check if a player is eligible to participate in games
+     * Compute the routing key of a round: the first character of its normalized answer
+     * @return The key, or -1 if answers to this round cannot be routed by text
      */
-    private boolean isPlayerEligible(Player player) {
-        // Check permission if required
-        if (plugin.getConfigManager().requiresPermissionToPlay()) {
-            if (!player.hasPermission("nebrixchatgames.play")) {
-                return false;
-            }
+    private int routeKey(ChatGame game, GameRound round) {
+        final String answer = game.getAnswerKey(round);
+        if (answer == null || round.isCaseSensitive()) {
+            return -1;
         }
 
-        // Check disabled worlds
-        final String worldName = player.getWorld().getName();
-        if (plugin.getConfigManager().getDisabledWorlds().contains(worldName)) {
-            return false;
-        }
-
-        return true;
+        final String normalized = TextUtils.normalizeAnswer(answer, plugin, false);
+        return normalized.isEmpty() ? -1 : normalized.charAt(0);
     }
 
     /**
-     * Schedule timeout task for the current game
+     * Schedule timeout task for a round
      */
     private void scheduleTimeout(ActiveGame activeGame) {
         final long timeoutTicks = activeGame.round.getTimeoutDuration() / 50L; // Convert ms to ticks
 
-        activeGame.timeoutTask = Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            // Check if this game is still active (avoid race conditions)
-            if (this.activeGame.get() == activeGame) {
-                endGame(null); // Timeout with no winner
+        activeGame.timeoutTask = plugin.getPlatformScheduler().runGlobalLater(() -> {
+            // Only claim the round if no answer claimed it first
+            if (claimRound(activeGame)) {
+                resolve(activeGame, null); // Timeout with no winner
             }
         }, Math.max(1L, timeoutTicks));
     }
@@ -311,11 +522,120 @@ public class GameEngine {
     private static class ActiveGame {
         final ChatGame game;
         final GameRound round;
-        volatile BukkitTask timeoutTask;
-
-        ActiveGame(ChatGame game, GameRound round) {
+        final int routeKey;
+        final long answersOpenAt;
+        final AtomicBoolean claimed = new AtomicBoolean();
+        // Players who sent at least one answer for this round
+        final Set<UUID> participants = ConcurrentHashMap.newKeySet();
+        volatile ScheduledHandle timeoutTask;
+        // Time from round start to the winning answer
+        volatile long answerMillis;
+
+        ActiveGame(ChatGame game, GameRound round, int routeKey) {
             this.game = game;
             this.round = round;
+            this.routeKey = routeKey;
+            this.answersOpenAt = round.getStartTime() + round.getWarmupDuration();
+        }
+    }
+
+    /**
+     * Immutable slot table of active rounds with an answer index
+     * Replaced as a whole when a round starts or ends, so the chat thread reads it without locking.
+     * Rounds are bucketed by the first character of their normalized answer; rounds without a
+     * routing key are checked for every message.
+     */
+    private static final class RoundTable {
+        private static final int BUCKETS = 64;
+        private static final ActiveGame[] NONE = new ActiveGame[0];
+
+        static final RoundTable EMPTY = new RoundTable(NONE);
+
+        final ActiveGame[] rounds;
+        final ActiveGame[] wildcards;
+        final long answersOpenAt;
+        private final ActiveGame[][] buckets = new ActiveGame[BUCKETS][];
+
+        private RoundTable(ActiveGame[] rounds) {
+            this.rounds = rounds;
+
+            final List<ActiveGame> unrouted = new ArrayList<>();
+            long openAt = Long.MAX_VALUE;
+
+            for (ActiveGame round : rounds) {
+                openAt = Math.min(openAt, round.answersOpenAt);
+                if (round.routeKey < 0) {
+                    unrouted.add(round);
+                    continue;
+                }
+
+                final int index = round.routeKey & (BUCKETS - 1);
+                final ActiveGame[] bucket = buckets[index];
+                if (bucket == null) {
+                    buckets[index] = new ActiveGame[] {round};
+                } else {
+                    final ActiveGame[] grown = Arrays.copyOf(bucket, bucket.length + 1);
+                    grown[bucket.length] = round;
+                    buckets[index] = grown;
+                }
+            }
+
+            for (int i = 0; i < BUCKETS; i++) {
+                if (buckets[i] == null) {
+                    buckets[i] = NONE;
+                }
+            }
+
+            this.wildcards = unrouted.isEmpty() ? NONE : unrouted.toArray(NONE);
+            this.answersOpenAt = openAt;
+        }
+
+        int size() {
+            return rounds.length;
+        }
+
+        ActiveGame[] bucket(char key) {
+            return buckets[key & (BUCKETS - 1)];
+        }
+
+        /**
+         * Check whether any round would evaluate a message with this routing key
+         */
+        boolean routes(char key) {
+            if (wildcards.length > 0) {
+                return true;
+            }
+            for (ActiveGame round : bucket(key)) {
+                if (round.routeKey == key) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        ActiveGame find(String gameId) {
+            for (ActiveGame round : rounds) {
+                if (round.game.getId().equals(gameId)) {
+                    return round;
+                }
+            }
+            return null;
+        }
+
+        RoundTable with(ActiveGame round) {
+            final ActiveGame[] grown = Arrays.copyOf(rounds, rounds.length + 1);
+            grown[rounds.length] = round;
+            return new RoundTable(grown);
+        }
+
+        RoundTable without(ActiveGame round) {
+            final List<ActiveGame> remaining = new ArrayList<>(rounds.length);
+            for (ActiveGame existing : rounds) {
+                if (existing != round) {
+                    remaining.add(existing);
+                }
+            }
+            return remaining.isEmpty() ? EMPTY : new RoundTable(remaining.toArray(NONE));
         }
     }
-}
\ No newline at end of file
+}
@@ -3,8 +3,8 @@ package com.chunksmith.nebrixChatGames.core;
 import com.chunksmith.nebrixChatGames.NebrixChatGames;
 import com.chunksmith.nebrixChatGames.api.ChatGame;
 import com.chunksmith.nebrixChatGames.config.ConfigManager;
+import com.chunksmith.nebrixChatGames.platform.ScheduledHandle;
 import org.bukkit.Bukkit;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.HashMap;
 import java.util.List;
@@ -22,7 +22,7 @@ public class GameScheduler {
     private final GameEngine gameEngine;
     private final ConfigManager config;
 
-    private volatile BukkitTask schedulerTask;
+    private volatile ScheduledHandle schedulerTask;
     private volatile boolean running = false;
 
     public GameScheduler(NebrixChatGames plugin, GameEngine gameEngine, ConfigManager config) {
@@ -49,7 +49,7 @@ public class GameScheduler {
         final long intervalTicks = config.getSchedulerInterval() * 20L; // Convert seconds to ticks
 
         try {
-            schedulerTask = Bukkit.getScheduler().runTaskTimer(plugin, this::schedulerTick,
+            schedulerTask = plugin.getPlatformScheduler().runGlobalTimer(this::schedulerTick,
                     intervalTicks, intervalTicks);
             running = true;
 
@@ -127,8 +127,8 @@ public class GameScheduler {
      * Check if conditions are met to start a new game
      */
     private boolean canStartGame() {
-        // Don't start if a game is already active
-        if (gameEngine.isGameActive()) {
+        // Don't start if every game slot is taken
+        if (!gameEngine.hasFreeSlot()) {
             return false;
         }
 
@@ -168,6 +168,11 @@ public class GameScheduler {
         for (ChatGame game : enabledGames) {
             final String gameId = game.getId();
 
+            // Skip games that already have a round running
+            if (gameEngine.isGameRunning(gameId)) {
+                continue;
+            }
+
             // Use configured weight or default to 1
             int weight = config.getGameWeight(gameId);
 
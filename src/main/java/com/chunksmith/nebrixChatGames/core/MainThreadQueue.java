@@ -0,0 +1,130 @@
+package com.chunksmith.nebrixChatGames.core;
+
+import com.chunksmith.nebrixChatGames.NebrixChatGames;
+import com.chunksmith.nebrixChatGames.platform.PlatformScheduler;
+import com.chunksmith.nebrixChatGames.platform.ScheduledHandle;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+
+/**
+ * Bounded hand-off queue from async threads (chat) to the main thread
+ * (the global region thread on Folia). Drained once per tick so Bukkit API work
+ * triggered by chat runs tick-safe without the producer ever blocking
+ */
+public class MainThreadQueue {
+
+    private final NebrixChatGames plugin;
+    private final PlatformScheduler scheduler;
+    private final ArrayBlockingQueue<QueuedTask> queue;
+
+    private volatile ScheduledHandle drainTask;
+
+    // Metrics
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder drained = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private volatile long lastLatencyNanos;
+
+    public MainThreadQueue(NebrixChatGames plugin, int capacity) {
+        this.plugin = plugin;
+        this.scheduler = plugin.getPlatformScheduler();
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+    }
+
+    /**
+     * Start draining the queue once per tick
+     */
+    public void start() {
+        if (drainTask == null) {
+            drainTask = scheduler.runGlobalTimer(this::drain, 1L, 1L);
+        }
+    }
+
+    /**
+     * Stop the drain task and run everything still queued
+     * Must be called from the main thread
+     */
+    public void stop() {
+        if (drainTask != null) {
+            drainTask.cancel();
+            drainTask = null;
+        }
+        drain();
+    }
+
+    /**
+     * Run a task on the main thread
+     * Runs inline when already on the main thread, otherwise queues it for the next tick.
+     * If the queue is full the task falls back to a regular scheduler task, so it is never dropped.
+     *
+     * @param task The task to run
+     */
+    public void submit(Runnable task) {
+        if (scheduler.isGlobalThread()) {
+            runSafely(task);
+            return;
+        }
+
+        submitted.increment();
+        if (!queue.offer(new QueuedTask(task, System.nanoTime()))) {
+            overflowed.increment();
+            scheduler.runGlobal(task);
+        }
+    }
+
+    /**
+     * Run all queued tasks
+     */
+    private void drain() {
+        QueuedTask queued;
+        while ((queued = queue.poll()) != null) {
+            final long latency = System.nanoTime() - queued.enqueuedAt();
+            lastLatencyNanos = latency;
+            totalLatencyNanos.add(latency);
+            maxLatencyNanos.accumulateAndGet(latency, Math::max);
+            drained.increment();
+
+            runSafely(queued.task());
+        }
+    }
+
+    private void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Error running main thread task", e);
+        }
+    }
+
+    // Metrics getters
+    public int getDepth() { return queue.size(); }
+    public int getCapacity() { return queue.size() + queue.remainingCapacity(); }
+    public long getSubmittedCount() { return submitted.sum(); }
+    public long getOverflowCount() { return overflowed.sum(); }
+    public long getLastLatencyNanos() { return lastLatencyNanos; }
+    public long getMaxLatencyNanos() { return maxLatencyNanos.get(); }
+
+    public long getAverageLatencyNanos() {
+        final long count = drained.sum();
+        return count > 0 ? totalLatencyNanos.sum() / count : 0L;
+    }
+
+    /**
+     * Reset latency and throughput metrics
+     */
+    public void resetMetrics() {
+        submitted.reset();
+        drained.reset();
+        overflowed.reset();
+        totalLatencyNanos.reset();
+        maxLatencyNanos.set(0L);
+        lastLatencyNanos = 0L;
+    }
+
+    private record QueuedTask(Runnable task, long enqueuedAt) {}
+}
@@ -0,0 +1,45 @@
+package com.chunksmith.nebrixChatGames.data;
+
+/**
+ * Running answer time statistics of one player in one game
+ * Kept as best time, count and total so it updates in constant space and merges by adding
+ * @param best Fastest winning answer in milliseconds
+ * @param count Number of timed winning answers
+ * @param total Sum of the timed answers in milliseconds
+ */
+public record AnswerTimes(long best, long count, long total) {
+
+    public static final AnswerTimes NONE = new AnswerTimes(0, 0, 0);
+
+    /**
+     * Add one answer time
+     * @param millis Time the answer took
+     * @return Updated statistics
+     */
+    public AnswerTimes record(long millis) {
+        return new AnswerTimes(count == 0 ? millis : Math.min(best, millis), count + 1, total + millis);
+    }
+
+    /**
+     * Combine with statistics collected separately
+     * @param other The other statistics
+     * @return Statistics over both sets of answers
+     */
+    public AnswerTimes merge(AnswerTimes other) {
+        if (other.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            return other;
+        }
+        return new AnswerTimes(Math.min(best, other.best), count + other.count, total + other.total);
+    }
+
+    /**
+     * Get the mean answer time
+     * @return Mean in milliseconds, or 0 if nothing was recorded
+     */
+    public double mean() {
+        return count > 0 ? (double) total / count : 0.0;
+    }
+}
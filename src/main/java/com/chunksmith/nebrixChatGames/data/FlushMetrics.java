@@ -0,0 +1,65 @@
+package com.chunksmith.nebrixChatGames.data;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for the write-behind flusher
+ */
+public class FlushMetrics {
+
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder records = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private volatile long lastNanos;
+
+    /**
+     * Record a successful flush
+     * @param recordCount Number of records written
+     * @param byteCount Number of payload bytes written
+     * @param durationNanos Time spent writing
+     */
+    public void recordFlush(int recordCount, long byteCount, long durationNanos) {
+        flushes.increment();
+        records.add(recordCount);
+        bytes.add(byteCount);
+        totalNanos.add(durationNanos);
+        maxNanos.accumulateAndGet(durationNanos, Math::max);
+        lastNanos = durationNanos;
+    }
+
+    /**
+     * Record a failed flush
+     */
+    public void recordFailure() {
+        failures.increment();
+    }
+
+    public long getFlushCount() { return flushes.sum(); }
+    public long getFailureCount() { return failures.sum(); }
+    public long getRecordCount() { return records.sum(); }
+    public long getByteCount() { return bytes.sum(); }
+    public long getLastNanos() { return lastNanos; }
+    public long getMaxNanos() { return maxNanos.get(); }
+
+    public long getAverageNanos() {
+        final long count = flushes.sum();
+        return count > 0 ? totalNanos.sum() / count : 0L;
+    }
+
+    /**
+     * Reset all counters
+     */
+    public void reset() {
+        flushes.reset();
+        failures.reset();
+        records.reset();
+        bytes.reset();
+        totalNanos.reset();
+        maxNanos.set(0L);
+        lastNanos = 0L;
+    }
+}
@@ -0,0 +1,13 @@
+package com.chunksmith.nebrixChatGames.data;
+
+/**
+ * Order in which queued player loads run, most urgent first
+ */
+public enum LoadPriority {
+    /** Playing right now: answering or winning while the record is still a placeholder */
+    ACTIVE,
+    /** Just joined; players with more wins are loaded first */
+    JOIN,
+    /** Looked up by someone else, e.g. /chatgames stats */
+    LOOKUP
+}
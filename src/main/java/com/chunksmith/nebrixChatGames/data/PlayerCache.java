@@ -0,0 +1,202 @@
+package com.chunksmith.nebrixChatGames.data;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size and idle bounded cache of player records
+ * Online players are never evicted. Eviction is two-phase: candidates are selected,
+ * flushed by the caller, then dropped only if nobody touched them in between.
+ */
+public class PlayerCache {
+
+    private final ConcurrentHashMap<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    // Players that must stay cached
+    private final Set<UUID> onlinePlayers = ConcurrentHashMap.newKeySet();
+
+    // Metrics
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Get a cached record
+     * @param playerId The player's UUID
+     * @return The record, or null if it is not cached
+     */
+    public PlayerData get(UUID playerId) {
+        final Entry entry = entries.get(playerId);
+        if (entry != null && entry.touch(System.currentTimeMillis())) {
+            hits.increment();
+            return entry.data;
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Cache a record unless another one is cached already
+     * @param data The record
+     * @return The cached record, which wins over the given one
+     */
+    public PlayerData putIfAbsent(PlayerData data) {
+        final UUID playerId = data.getPlayerId();
+        final long now = System.currentTimeMillis();
+        final Entry created = new Entry(data, now);
+
+        while (true) {
+            final Entry existing = entries.putIfAbsent(playerId, created);
+            if (existing == null) {
+                return data;
+            }
+            if (existing.touch(now)) {
+                return existing.data;
+            }
+            // Evicted while we looked at it
+            entries.remove(playerId, existing);
+        }
+    }
+
+    /**
+     * Mark a player as online (pinned) or offline (evictable once idle)
+     * @param playerId The player's UUID
+     * @param online Whether the player is online
+     */
+    public void setOnline(UUID playerId, boolean online) {
+        if (online) {
+            onlinePlayers.add(playerId);
+        } else {
+            onlinePlayers.remove(playerId);
+            // Idle time starts when the player leaves
+            final Entry entry = entries.get(playerId);
+            if (entry != null) {
+                entry.touch(System.currentTimeMillis());
+            }
+        }
+    }
+
+    /**
+     * Get all cached records
+     * @return Snapshot of the cached records
+     */
+    public List<PlayerData> values() {
+        final List<PlayerData> values = new ArrayList<>(entries.size());
+        for (Entry entry : entries.values()) {
+            values.add(entry.data);
+        }
+        return values;
+    }
+
+    /**
+     * Select records to evict: offline records idle for too long, then the least recently
+     * used offline records while the cache is over its size limit
+     * @param now Current time in milliseconds
+     * @param idleMillis Idle time after which an offline record is evicted
+     * @param maxSize Maximum number of cached records
+     * @return Candidates; flush them, then pass each one to {@link #evict(PlayerData)}
+     */
+    public List<PlayerData> selectEvictions(long now, long idleMillis, int maxSize) {
+        // Access times are captured once so the sort sees stable keys
+        final List<Selection> offline = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            if (!onlinePlayers.contains(entry.data.getPlayerId())) {
+                offline.add(new Selection(entry, entry.markForEviction()));
+            }
+        }
+
+        offline.sort(Comparator.comparingLong(Selection::lastAccess));
+
+        final int overflow = entries.size() - maxSize;
+        final List<PlayerData> candidates = new ArrayList<>();
+        for (int i = 0; i < offline.size(); i++) {
+            final Selection selection = offline.get(i);
+            if (i < overflow || now - selection.lastAccess() > idleMillis) {
+                candidates.add(selection.entry().data);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Drop a selected record if it is loaded, clean and untouched since it was selected
+     * @param data A record returned by {@link #selectEvictions}
+     * @return true if the record was dropped
+     */
+    public boolean evict(PlayerData data) {
+        final UUID playerId = data.getPlayerId();
+        final Entry entry = entries.get(playerId);
+        if (entry == null || entry.data != data) {
+            return false;
+        }
+
+        synchronized (entry) {
+            if (entry.lastAccess != entry.evictionMark || !data.isLoaded() || data.isDirty()
+                    || onlinePlayers.contains(playerId)) {
+                return false;
+            }
+            entry.evicted = true;
+        }
+
+        entries.remove(playerId, entry);
+        evictions.increment();
+        return true;
+    }
+
+    // Metrics getters
+    public int size() { return entries.size(); }
+    public int getOnlineCount() { return onlinePlayers.size(); }
+    public long getHitCount() { return hits.sum(); }
+    public long getMissCount() { return misses.sum(); }
+    public long getEvictionCount() { return evictions.sum(); }
+
+    /**
+     * Reset hit, miss and eviction counters
+     */
+    public void resetMetrics() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    /**
+     * Cache slot; access and eviction synchronize on the slot so a record is never
+     * handed out after it was dropped
+     */
+    private static final class Entry {
+        final PlayerData data;
+        long lastAccess;
+        long evictionMark = Long.MIN_VALUE;
+        boolean evicted;
+
+        Entry(PlayerData data, long now) {
+            this.data = data;
+            this.lastAccess = now;
+        }
+
+        synchronized boolean touch(long now) {
+            if (evicted) {
+                return false;
+            }
+            lastAccess = Math.max(lastAccess + 1, now);
+            return true;
+        }
+
+        /**
+         * Remember the current access time; eviction only succeeds if it is unchanged
+         * @return The remembered access time
+         */
+        synchronized long markForEviction() {
+            evictionMark = lastAccess;
+            return lastAccess;
+        }
+    }
+
+    private record Selection(Entry entry, long lastAccess) {}
+}
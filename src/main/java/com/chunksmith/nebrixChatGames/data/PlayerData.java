@@ -9,6 +9,7 @@ import org.bukkit.configuration.file.FileConfiguration;
 
 /**
  * Public PlayerData class for storing player statistics
+ * Thread-safe: the main thread mutates records while the storage flusher snapshots them
  */
 public class PlayerData {
 
@@ -17,7 +18,17 @@ public class PlayerData {
     private int gamesPlayed;
     private long totalRewards;
     private long lastPlayed;
+    // Quickest winning answer in milliseconds, 0 if none yet
+    private long fastestAnswer;
     private final Map<String, Integer> wins = new HashMap<>();
+    private final Map<String, AnswerTimes> answerTimes = new HashMap<>();
+
+    // Bumped on every change; the record is dirty while it is ahead of the last saved version
+    private long version;
+    private long savedVersion;
+
+    // False for a placeholder whose stored values have not been merged in yet
+    private boolean loaded = true;
 
     public PlayerData(UUID playerId) {
         this.playerId = playerId;
@@ -35,69 +46,205 @@ public class PlayerData {
         this.lastPlayed = lastPlayed;
     }
 
+    /**
+     * Create a placeholder that collects changes until the stored record is loaded
+     * Placeholders must not be written to storage before {@link #mergeLoaded(PlayerData)}
+     * @param playerId The player's UUID
+     * @return Empty, unloaded record
+     */
+    public static PlayerData placeholder(UUID playerId) {
+        final PlayerData data = new PlayerData(playerId, 0, 0, 0, 0);
+        data.loaded = false;
+        return data;
+    }
+
     public UUID getPlayerId() {
         return playerId;
     }
 
-    public int getGamesWon() {
+    public synchronized int getGamesWon() {
         return gamesWon;
     }
 
-    public void setGamesWon(int gamesWon) {
+    public synchronized void setGamesWon(int gamesWon) {
+        version++;
         this.gamesWon = gamesWon;
     }
 
-    public void incrementGamesWon() {
+    public synchronized void incrementGamesWon() {
+        version++;
         this.gamesWon++;
     }
 
-    public void incrementWins(String gameId) {
+    public synchronized void incrementWins(String gameId) {
+        version++;
         incrementGamesWon();
         wins.merge(gameId, 1, Integer::sum);
     }
 
-    public int getGamesPlayed() {
+    public synchronized int getGamesPlayed() {
         return gamesPlayed;
     }
 
-    public void setGamesPlayed(int gamesPlayed) {
+    public synchronized void setGamesPlayed(int gamesPlayed) {
+        version++;
         this.gamesPlayed = gamesPlayed;
     }
 
-    public void incrementGamesPlayed() {
+    public synchronized void incrementGamesPlayed() {
+        version++;
         this.gamesPlayed++;
     }
 
-    public long getTotalRewards() {
+    public synchronized long getTotalRewards() {
         return totalRewards;
     }
 
-    public void setTotalRewards(long totalRewards) {
+    public synchronized void setTotalRewards(long totalRewards) {
+        version++;
         this.totalRewards = totalRewards;
     }
 
-    public void addReward(long reward) {
+    public synchronized void addReward(long reward) {
+        version++;
         this.totalRewards += reward;
     }
 
-    public long getLastPlayed() {
+    public synchronized long getLastPlayed() {
         return lastPlayed;
     }
 
-    public void setLastPlayed(long lastPlayed) {
+    public synchronized void setLastPlayed(long lastPlayed) {
+        version++;
         this.lastPlayed = lastPlayed;
     }
 
-    public void updateLastPlayed() {
+    public synchronized void updateLastPlayed() {
+        version++;
         this.lastPlayed = System.currentTimeMillis();
     }
 
-    public double getWinRate() {
+    public synchronized long getFastestAnswer() {
+        return fastestAnswer;
+    }
+
+    public synchronized void setFastestAnswer(long fastestAnswer) {
+        version++;
+        this.fastestAnswer = fastestAnswer;
+    }
+
+    /**
+     * Record the time of a winning answer
+     * @param gameId The game ID
+     * @param millis Time from round start to the winning answer
+     */
+    public synchronized void recordAnswerTime(String gameId, long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        version++;
+        if (fastestAnswer == 0 || millis < fastestAnswer) {
+            this.fastestAnswer = millis;
+        }
+        answerTimes.put(gameId, answerTimes.getOrDefault(gameId, AnswerTimes.NONE).record(millis));
+    }
+
+    public synchronized Map<String, AnswerTimes> getAnswerTimes() {
+        return Collections.unmodifiableMap(new HashMap<>(answerTimes));
+    }
+
+    public synchronized AnswerTimes getAnswerTimes(String gameId) {
+        return answerTimes.getOrDefault(gameId, AnswerTimes.NONE);
+    }
+
+    public synchronized void setAnswerTimes(String gameId, AnswerTimes times) {
+        version++;
+        answerTimes.put(gameId, times);
+    }
+
+    public synchronized double getWinRate() {
         return gamesPlayed > 0 ? (double) gamesWon / gamesPlayed : 0.0;
     }
 
-    public Map<String, Integer> getWins() {
-        return Collections.unmodifiableMap(wins);
+    public synchronized Map<String, Integer> getWins() {
+        return Collections.unmodifiableMap(new HashMap<>(wins));
+    }
+
+    public synchronized int getWins(String gameId) {
+        return wins.getOrDefault(gameId, 0);
+    }
+
+    public synchronized void setWins(String gameId, int count) {
+        version++;
+        wins.put(gameId, count);
+    }
+
+    /**
+     * Take a consistent copy for writing to storage
+     * The copy carries the version it was taken at
+     * @return Detached copy of this record
+     */
+    public synchronized PlayerData copy() {
+        final PlayerData copy = new PlayerData(playerId, gamesWon, gamesPlayed, totalRewards, lastPlayed);
+        copy.fastestAnswer = fastestAnswer;
+        copy.wins.putAll(wins);
+        copy.answerTimes.putAll(answerTimes);
+        copy.version = version;
+        copy.savedVersion = savedVersion;
+        return copy;
+    }
+
+    public synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Merge the stored record into this placeholder
+     * Counters queued on the placeholder are added on top of the stored ones, so the
+     * record stays dirty only if changes were queued while it was loading
+     * @param stored The record read from storage
+     */
+    public synchronized void mergeLoaded(PlayerData stored) {
+        if (loaded) {
+            return;
+        }
+
+        gamesWon += stored.getGamesWon();
+        gamesPlayed += stored.getGamesPlayed();
+        totalRewards += stored.getTotalRewards();
+        lastPlayed = Math.max(lastPlayed, stored.getLastPlayed());
+        final long storedFastest = stored.getFastestAnswer();
+        if (storedFastest > 0 && (fastestAnswer == 0 || storedFastest < fastestAnswer)) {
+            fastestAnswer = storedFastest;
+        }
+        for (Map.Entry<String, Integer> entry : stored.getWins().entrySet()) {
+            wins.merge(entry.getKey(), entry.getValue(), Integer::sum);
+        }
+        for (Map.Entry<String, AnswerTimes> entry : stored.getAnswerTimes().entrySet()) {
+            answerTimes.merge(entry.getKey(), entry.getValue(), AnswerTimes::merge);
+        }
+        loaded = true;
+    }
+
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * Check whether the record changed since it was last saved
+     * @return true if there are unsaved changes
+     */
+    public synchronized boolean isDirty() {
+        return version > savedVersion;
+    }
+
+    /**
+     * Record that a version of this record reached storage
+     * Changes made after that version keep the record dirty
+     * @param savedVersion The version that was written
+     */
+    public synchronized void markSaved(long savedVersion) {
+        this.savedVersion = Math.max(this.savedVersion, savedVersion);
     }
 
     public static PlayerData fromConfig(UUID playerId, FileConfiguration config) {
@@ -106,23 +253,38 @@ public class PlayerData {
         final long rewards = config.getLong("total-rewards", 0);
         final long last = config.getLong("last-played", System.currentTimeMillis());
         PlayerData data = new PlayerData(playerId, won, played, rewards, last);
+        data.fastestAnswer = config.getLong("fastest-answer", 0);
         ConfigurationSection winsSection = config.getConfigurationSection("wins");
         if (winsSection != null) {
             for (String key : winsSection.getKeys(false)) {
                 data.wins.put(key, winsSection.getInt(key, 0));
             }
         }
+        ConfigurationSection timesSection = config.getConfigurationSection("answer-times");
+        if (timesSection != null) {
+            for (String key : timesSection.getKeys(false)) {
+                data.answerTimes.put(key, new AnswerTimes(timesSection.getLong(key + ".best", 0),
+                        timesSection.getLong(key + ".count", 0), timesSection.getLong(key + ".total", 0)));
+            }
+        }
         return data;
     }
 
-    public void saveToConfig(FileConfiguration config) {
+    public synchronized void saveToConfig(FileConfiguration config) {
         config.set("games-won", gamesWon);
         config.set("games-played", gamesPlayed);
         config.set("total-rewards", totalRewards);
         config.set("last-played", lastPlayed);
+        config.set("fastest-answer", fastestAnswer);
         ConfigurationSection section = config.createSection("wins");
         for (Map.Entry<String, Integer> entry : wins.entrySet()) {
             section.set(entry.getKey(), entry.getValue());
         }
+        ConfigurationSection timesSection = config.createSection("answer-times");
+        for (Map.Entry<String, AnswerTimes> entry : answerTimes.entrySet()) {
+            timesSection.set(entry.getKey() + ".best", entry.getValue().best());
+            timesSection.set(entry.getKey() + ".count", entry.getValue().count());
+            timesSection.set(entry.getKey() + ".total", entry.getValue().total());
+        }
     }
 }
\ No newline at end of file
@@ -2,35 +2,91 @@ package com.chunksmith.nebrixChatGames.data;
 
 import com.chunksmith.nebrixChatGames.NebrixChatGames;
 import com.chunksmith.nebrixChatGames.config.ConfigManager;
-import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.configuration.file.YamlConfiguration;
+import com.chunksmith.nebrixChatGames.data.storage.JournalPlayerStorage;
+import com.chunksmith.nebrixChatGames.data.storage.PlayerStorage;
+import com.chunksmith.nebrixChatGames.data.storage.SqlitePlayerStorage;
+import com.chunksmith.nebrixChatGames.data.storage.YamlMigrator;
+import com.chunksmith.nebrixChatGames.data.storage.YamlPlayerStorage;
+import com.chunksmith.nebrixChatGames.leaderboard.LeaderboardManager;
 
 import java.io.File;
-import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 
 /**
  * Manages player data with async loading/saving
- * Uses flat file storage for simplicity and compatibility
+ * Changes are written behind: records track their own version, and every
+ * storage.flush-interval-seconds the changed ones are written in one batch.
+ * Saves, flushes and scans run on a dedicated I/O thread; loads run on a small
+ * pool in priority order, so a join storm is not queued behind them.
  */
 public class PlayerDataManager {
 
+    // How long shutdown waits for queued I/O before flushing on the calling thread
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30L;
+
+    // How often idle records are flushed and evicted
+    private static final long EVICTION_INTERVAL_SECONDS = 60L;
+
+    // Stored players read per I/O task while scanning, so loads and flushes can run in between
+    private static final int SCAN_BATCH_SIZE = 500;
+
     private final NebrixChatGames plugin;
     private final ConfigManager config;
+    private final LeaderboardManager leaderboards;
     private final File dataFolder;
 
-    // In-memory cache of player data
-    private final ConcurrentHashMap<UUID, PlayerData> playerCache = new ConcurrentHashMap<>();
+    // Storage backend selected by storage.type
+    private PlayerStorage storage;
+
+    // Bounded in-memory cache of online and recently seen players
+    private final PlayerCache playerCache = new PlayerCache();
+
+    // Dedicated I/O thread for saves, scans and the periodic flush
+    private final ScheduledExecutorService ioExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "NebrixChatGames-IO");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Bounded loader pool; its queue hands out the most urgent load first
+    private final ThreadPoolExecutor loadExecutor;
+    private final AtomicLong loadSequence = new AtomicLong();
 
-    public PlayerDataManager(NebrixChatGames plugin, ConfigManager config) {
+    // Loads in flight, so a placeholder is only loaded once
+    private final ConcurrentHashMap<UUID, PendingLoad> pendingLoads = new ConcurrentHashMap<>();
+
+    private final FlushMetrics flushMetrics = new FlushMetrics();
+
+    public PlayerDataManager(NebrixChatGames plugin, ConfigManager config, LeaderboardManager leaderboards) {
         this.plugin = plugin;
         this.config = config;
+        this.leaderboards = leaderboards;
         this.dataFolder = new File(plugin.getDataFolder(), "playerdata");
+
+        final int loadThreads = config.getPlayerLoadThreads();
+        final AtomicInteger threadNumber = new AtomicInteger();
+        this.loadExecutor = new ThreadPoolExecutor(loadThreads, loadThreads, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), runnable -> {
+                    final Thread thread = new Thread(runnable, "NebrixChatGames-Loader-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
     }
 
     /**
@@ -39,13 +95,15 @@ public class PlayerDataManager {
      */
     public boolean initialize() {
         try {
-            // Create data folder if it doesn't exist
-            if (!dataFolder.exists() && !dataFolder.mkdirs()) {
-                plugin.getLogger().severe("Failed to create playerdata directory");
-                return false;
-            }
+            this.storage = openStorage();
+
+            // Write-behind flusher
+            final long interval = config.getStorageFlushInterval();
+            ioExecutor.scheduleWithFixedDelay(this::flushDirty, interval, interval, TimeUnit.SECONDS);
+            ioExecutor.scheduleWithFixedDelay(this::evictIdle, EVICTION_INTERVAL_SECONDS,
+                    EVICTION_INTERVAL_SECONDS, TimeUnit.SECONDS);
 
-            plugin.getLogger().info("Player data manager initialized");
+            plugin.getLogger().info("Player data manager initialized (" + storage.getName() + " storage)");
             return true;
 
         } catch (Exception e) {
@@ -55,20 +113,231 @@ public class PlayerDataManager {
     }
 
     /**
-     * Load player data asynchronously
+     * Open the configured storage backend, importing YAML data into SQLite or the journal on first start
+     */
+    private PlayerStorage openStorage() throws Exception {
+        final YamlPlayerStorage yamlStorage = new YamlPlayerStorage(dataFolder);
+        final YamlMigrator migrator = new YamlMigrator(plugin.getLogger(), yamlStorage);
+
+        if (config.getStorageType().equals("journal")) {
+            final JournalPlayerStorage journalStorage = new JournalPlayerStorage(
+                    new File(plugin.getDataFolder(), "journal"), config.getJournalCompactBytes(), plugin.getLogger());
+            journalStorage.open();
+
+            if (dataFolder.isDirectory()) {
+                migrator.migrateIfNeeded(journalStorage);
+            }
+            return journalStorage;
+        }
+
+        if (config.getStorageType().equals("sqlite")) {
+            if (SqlitePlayerStorage.isDriverAvailable()) {
+                final SqlitePlayerStorage sqliteStorage =
+                        new SqlitePlayerStorage(new File(plugin.getDataFolder(), config.getSqliteFile()));
+                sqliteStorage.open();
+
+                if (dataFolder.isDirectory()) {
+                    migrator.migrateIfNeeded(sqliteStorage);
+                }
+                return sqliteStorage;
+            }
+
+            plugin.getLogger().warning("SQLite driver not found, falling back to YAML storage");
+        }
+
+        yamlStorage.open();
+        return yamlStorage;
+    }
+
+    /**
+     * Stop the I/O thread, write all pending changes and close the storage
+     * The final flush runs on the calling thread, so nothing is lost to a timeout
+     */
+    public void shutdown() {
+        // Queued loads still run; whatever misses the timeout is merged below
+        loadExecutor.shutdown();
+        try {
+            if (!loadExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Player data loads did not finish in time, loading on shutdown thread");
+                loadExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        ioExecutor.shutdown();
+        try {
+            if (!ioExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Player data I/O did not finish in time, flushing on shutdown thread");
+                ioExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (storage != null) {
+            // Placeholders still waiting for their load are completed here, or their changes are lost
+            for (PlayerData data : playerCache.values()) {
+                if (!data.isLoaded()) {
+                    data.mergeLoaded(loadPlayerDataSync(data.getPlayerId()));
+                }
+            }
+            flushDirty();
+            storage.close();
+        }
+    }
+
+    /**
+     * Mark a player as online or offline
+     * Online players stay cached; offline players are evicted once idle
      * @param playerId The player's UUID
-     * @return CompletableFuture with the loaded data
+     * @param online Whether the player is online
+     */
+    public void setOnline(UUID playerId, boolean online) {
+        playerCache.setOnline(playerId, online);
+    }
+
+    /**
+     * Load player data asynchronously into the cache
+     * @param playerId The player's UUID
+     * @return CompletableFuture with the cached data, completed once it is loaded
      */
     public CompletableFuture<PlayerData> loadPlayerDataAsync(UUID playerId) {
-        return CompletableFuture.supplyAsync(() -> {
+        return loadPlayerDataAsync(playerId, LoadPriority.LOOKUP);
+    }
+
+    /**
+     * Load player data asynchronously into the cache
+     * @param playerId The player's UUID
+     * @param priority How urgently the record is needed
+     * @return CompletableFuture with the cached data, completed once it is loaded
+     */
+    public CompletableFuture<PlayerData> loadPlayerDataAsync(UUID playerId, LoadPriority priority) {
+        final PlayerData data = acquire(playerId, priority);
+        return data.isLoaded() ? CompletableFuture.completedFuture(data) : scheduleLoad(data, priority);
+    }
+
+    /**
+     * Get the cached record, or cache a placeholder and load the stored record behind it
+     * Never touches storage on the calling thread
+     */
+    private PlayerData acquire(UUID playerId, LoadPriority priority) {
+        final PlayerData cached = playerCache.get(playerId);
+        if (cached != null) {
+            if (!cached.isLoaded()) {
+                // Already queued; this may move it up
+                scheduleLoad(cached, priority);
+            }
+            return cached;
+        }
+
+        final PlayerData data = playerCache.putIfAbsent(PlayerData.placeholder(playerId));
+        if (!data.isLoaded()) {
+            scheduleLoad(data, priority);
+        }
+        return data;
+    }
+
+    /**
+     * Queue a load of the stored record into a placeholder
+     * A second request for the same player joins the first one, and re-queues it if it is more urgent.
+     * Merging is atomic under the record's lock and flushes and evictions skip unloaded records,
+     * so the I/O thread never sees a placeholder half merged.
+     */
+    private CompletableFuture<PlayerData> scheduleLoad(PlayerData placeholder, LoadPriority priority) {
+        final UUID playerId = placeholder.getPlayerId();
+        PendingLoad pending = pendingLoads.get(playerId);
+        if (pending == null) {
+            final PendingLoad created = new PendingLoad(placeholder);
+            pending = pendingLoads.putIfAbsent(playerId, created);
+            if (pending == null) {
+                pending = created;
+            }
+        }
+
+        if (pending.raise(priority)) {
+            submitLoad(pending, priority);
+        }
+        return pending.future;
+    }
+
+    private void submitLoad(PendingLoad load, LoadPriority priority) {
+        // Among joining players, those with more wins are more likely to play
+        final int wins = priority == LoadPriority.JOIN
+                ? leaderboards.getGlobal().getScore(load.placeholder.getPlayerId())
+                : 0;
+        try {
+            loadExecutor.execute(new LoadTask(load, priority, wins, loadSequence.getAndIncrement()));
+        } catch (RejectedExecutionException e) {
+            // Shutting down; the shutdown flush must see the merged record
+            load.run();
+        }
+    }
+
+    /**
+     * A queued load of one placeholder; it may be queued more than once, the first run does the work
+     */
+    private final class PendingLoad implements Runnable {
+        final PlayerData placeholder;
+        final CompletableFuture<PlayerData> future = new CompletableFuture<>();
+        private final AtomicBoolean started = new AtomicBoolean();
+        private LoadPriority priority;
+
+        PendingLoad(PlayerData placeholder) {
+            this.placeholder = placeholder;
+        }
+
+        /**
+         * Record a request for this load
+         * @return true if the request is more urgent than any before it
+         */
+        synchronized boolean raise(LoadPriority requested) {
+            if (started.get() || (priority != null && priority.compareTo(requested) <= 0)) {
+                return false;
+            }
+            priority = requested;
+            return true;
+        }
+
+        @Override
+        public void run() {
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+
+            final UUID playerId = placeholder.getPlayerId();
             try {
-                return loadPlayerDataSync(playerId);
-            } catch (Exception e) {
-                plugin.getLogger().log(Level.WARNING,
-                        "Failed to load data for player " + playerId, e);
-                return new PlayerData(playerId);
+                // A load scheduled after the previous one finished finds the record merged already
+                placeholder.mergeLoaded(loadPlayerDataSync(playerId));
+                // Wins queued on the placeholder were not ranked yet
+                leaderboards.update(placeholder);
+            } finally {
+                pendingLoads.remove(playerId, this);
+                future.complete(placeholder);
             }
-        });
+        }
+    }
+
+    /**
+     * Queue entry of a load: most urgent priority first, then most wins, then oldest request
+     */
+    private record LoadTask(PendingLoad load, LoadPriority priority, int wins, long sequence)
+            implements Runnable, Comparable<LoadTask> {
+
+        private static final Comparator<LoadTask> ORDER = Comparator
+                .comparing(LoadTask::priority)
+                .thenComparing(Comparator.comparingInt(LoadTask::wins).reversed())
+                .thenComparingLong(LoadTask::sequence);
+
+        @Override
+        public void run() {
+            load.run();
+        }
+
+        @Override
+        public int compareTo(LoadTask other) {
+            return ORDER.compare(this, other);
+        }
     }
 
     /**
@@ -78,93 +347,231 @@ public class PlayerDataManager {
      */
     public CompletableFuture<Void> savePlayerDataAsync(UUID playerId) {
         final PlayerData data = playerCache.get(playerId);
-        if (data == null) {
+        if (data == null || !data.isDirty()) {
             return CompletableFuture.completedFuture(null);
         }
 
+        // A placeholder still loading is skipped here and written by a later flush
         return CompletableFuture.runAsync(() -> {
-            try {
-                savePlayerDataSync(data);
-            } catch (Exception e) {
-                plugin.getLogger().log(Level.WARNING,
-                        "Failed to save data for player " + playerId, e);
+            if (data.isLoaded() && data.isDirty()) {
+                writeBatch(List.of(data));
             }
-        });
+        }, ioExecutor);
     }
 
     /**
-     * Save all cached player data asynchronously
+     * Save all changed player data asynchronously
      * @return CompletableFuture for completion tracking
      */
     public CompletableFuture<Void> saveAllAsync() {
-        return CompletableFuture.runAsync(() -> {
-            plugin.getLogger().info("Saving all player data...");
+        return CompletableFuture.runAsync(this::flushDirty, ioExecutor);
+    }
 
-            int saved = 0;
-            for (PlayerData data : playerCache.values()) {
-                try {
-                    savePlayerDataSync(data);
-                    saved++;
-                } catch (Exception e) {
-                    plugin.getLogger().log(Level.WARNING,
-                            "Failed to save data for player " + data.getPlayerId(), e);
-                }
+    /**
+     * Write every changed record in one batch
+     */
+    private void flushDirty() {
+        final List<PlayerData> dirty = new ArrayList<>();
+        for (PlayerData data : playerCache.values()) {
+            if (data.isLoaded() && data.isDirty()) {
+                dirty.add(data);
             }
+        }
 
-            plugin.getLogger().info("Saved data for " + saved + " players");
-        });
+        if (!dirty.isEmpty()) {
+            writeBatch(dirty);
+        }
+    }
+
+    /**
+     * Flush and drop offline records that have been idle too long or exceed the cache size
+     * Runs on the I/O thread, so a rejoining player's load is ordered after the flush
+     */
+    private void evictIdle() {
+        final List<PlayerData> candidates = playerCache.selectEvictions(System.currentTimeMillis(),
+                config.getPlayerCacheIdleMillis(), config.getPlayerCacheMaxSize());
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        final List<PlayerData> dirty = new ArrayList<>();
+        for (PlayerData data : candidates) {
+            if (data.isLoaded() && data.isDirty()) {
+                dirty.add(data);
+            }
+        }
+        if (!dirty.isEmpty()) {
+            writeBatch(dirty);
+        }
+
+        // Records touched or changed since selection stay cached
+        for (PlayerData data : candidates) {
+            playerCache.evict(data);
+        }
+    }
+
+    /**
+     * Snapshot and write records, marking each one saved at the version that was written
+     * Changes made while the batch is written keep their record dirty for the next flush
+     */
+    private void writeBatch(List<PlayerData> records) {
+        final List<PlayerData> batch = new ArrayList<>(records.size());
+        for (PlayerData data : records) {
+            batch.add(data.copy());
+        }
+
+        final long start = System.nanoTime();
+        try {
+            final long bytes = storage.saveAll(batch);
+            flushMetrics.recordFlush(batch.size(), bytes, System.nanoTime() - start);
+
+            for (int i = 0; i < records.size(); i++) {
+                records.get(i).markSaved(batch.get(i).getVersion());
+            }
+
+        } catch (Exception e) {
+            // Records stay dirty so the next flush retries them
+            flushMetrics.recordFailure();
+            plugin.getLogger().log(Level.WARNING, "Failed to write " + batch.size() + " player records", e);
+        }
     }
 
     /**
      * Get player data from cache or load it
+     * Blocks until the record is loaded; use {@link #loadPlayerDataAsync(UUID)} on latency-sensitive threads
      * @param playerId The player's UUID
      * @return Player data (never null)
      */
     public PlayerData getPlayerData(UUID playerId) {
-        return playerCache.computeIfAbsent(playerId, this::loadPlayerDataSync);
+        return loadPlayerDataAsync(playerId, LoadPriority.ACTIVE).join();
     }
 
     /**
-     * Increment wins for a player
+     * Increment wins for a player without waiting for their data to load
+     * If the record is still loading, the win is queued on a placeholder and merged when it arrives
      * @param playerId The player's UUID
      * @param gameId The game ID
+     * @param answerMillis Time from round start to the winning answer, or 0 if unknown
      */
-    public void incrementWins(UUID playerId, String gameId) {
-        final PlayerData data = getPlayerData(playerId);
+    public void incrementWins(UUID playerId, String gameId, long answerMillis) {
+        final PlayerData data = acquire(playerId, LoadPriority.ACTIVE);
         data.incrementWins(gameId);
+        data.recordAnswerTime(gameId, answerMillis);
+        leaderboards.recordWindowedWin(playerId);
+
+        // A placeholder only holds this session's wins; it is ranked once it is loaded
+        if (data.isLoaded()) {
+            leaderboards.recordWin(playerId, gameId, data.getGamesWon(), data.getWins(gameId));
+        }
     }
 
     /**
-     * Load player data synchronously
+     * Count a played round for a player without waiting for their data to load
+     * @param playerId The player's UUID
      */
-    private PlayerData loadPlayerDataSync(UUID playerId) {
-        final File playerFile = new File(dataFolder, playerId + ".yml");
+    public void recordParticipation(UUID playerId) {
+        final PlayerData data = acquire(playerId, LoadPriority.ACTIVE);
+        data.incrementGamesPlayed();
+        data.updateLastPlayed();
+    }
 
-        if (!playerFile.exists()) {
-            return new PlayerData(playerId);
+    /**
+     * Read every stored player on the I/O thread, in batches so other I/O is not held up
+     * Cached records may be newer than what is passed here
+     * @param consumer Called on the I/O thread for each stored player
+     * @return CompletableFuture with the number of players read
+     */
+    public CompletableFuture<Integer> forEachStoredPlayer(Consumer<PlayerData> consumer) {
+        final CompletableFuture<Integer> done = new CompletableFuture<>();
+        try {
+            ioExecutor.execute(() -> {
+                try {
+                    scanBatch(storage.listPlayers(), 0, consumer, done);
+                } catch (Exception e) {
+                    done.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            done.completeExceptionally(e);
         }
+        return done;
+    }
 
-        try {
-            final FileConfiguration config = YamlConfiguration.loadConfiguration(playerFile);
-            return PlayerData.fromConfig(playerId, config);
+    private void scanBatch(List<UUID> players, int from, Consumer<PlayerData> consumer,
+                           CompletableFuture<Integer> done) {
+        final int to = Math.min(players.size(), from + SCAN_BATCH_SIZE);
+        for (int i = from; i < to; i++) {
+            try {
+                final PlayerData data = storage.load(players.get(i));
+                if (data != null) {
+                    consumer.accept(data);
+                }
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "Skipping unreadable data for player " + players.get(i), e);
+            }
+        }
 
-        } catch (Exception e) {
-            plugin.getLogger().log(Level.WARNING,
-                    "Failed to load player data from " + playerFile.getName() +
-                            ", creating new data", e);
-            return new PlayerData(playerId);
+        if (to >= players.size()) {
+            done.complete(players.size());
+            return;
         }
+
+        try {
+            ioExecutor.execute(() -> scanBatch(players, to, consumer, done));
+        } catch (RejectedExecutionException e) {
+            done.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Get the name of the active storage backend
+     * @return Backend name
+     */
+    public String getStorageName() {
+        return storage != null ? storage.getName() : "none";
     }
 
     /**
-     * Save player data synchronously
+     * Get the player cache (size and hit/miss/eviction stats)
+     * @return The player cache
      */
-    private void savePlayerDataSync(PlayerData data) throws IOException {
-        final File playerFile = new File(dataFolder, data.getPlayerId() + ".yml");
-        final FileConfiguration config = new YamlConfiguration();
+    public PlayerCache getPlayerCache() {
+        return playerCache;
+    }
 
-        data.saveToConfig(config);
-        config.save(playerFile);
+    /**
+     * Get the number of player loads queued or running
+     * @return Pending load count
+     */
+    public int getPendingLoadCount() {
+        return pendingLoads.size();
+    }
+
+    /**
+     * Get the write-behind flush metrics
+     * @return Flush metrics
+     */
+    public FlushMetrics getFlushMetrics() {
+        return flushMetrics;
     }
-}
 
+    /**
+     * Load player data synchronously
+     * A freshly loaded or created record is clean
+     */
+    private PlayerData loadPlayerDataSync(UUID playerId) {
+        try {
+            final PlayerData data = storage.load(playerId);
+            if (data == null) {
+                return new PlayerData(playerId);
+            }
+            data.markSaved(data.getVersion());
+            return data;
+
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING,
+                    "Failed to load player data for " + playerId + ", creating new data", e);
+            return new PlayerData(playerId);
+        }
+    }
+}
@@ -0,0 +1,735 @@
+package com.chunksmith.nebrixChatGames.data.storage;
+
+import com.chunksmith.nebrixChatGames.data.AnswerTimes;
+import com.chunksmith.nebrixChatGames.data.PlayerData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only binary backend: changes are appended to a journal as small delta records
+ * Each batch is one checksummed frame followed by a single fsync. Stored records live in a
+ * memory-mapped {@link MappedStatsSnapshot}; only players changed since that snapshot are kept
+ * in memory. Once the journal grows past its limit it is rotated and a background thread merges
+ * the changed players into a new snapshot, after which older journals and snapshots are deleted.
+ * Startup maps the newest snapshot and replays the journals after it; a torn frame at the end
+ * of the last journal is cut off.
+ */
+public class JournalPlayerStorage implements PlayerStorage {
+
+    private static final int JOURNAL_MAGIC = 0x4E43474A;  // NCGJ
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String FILE_PREFIX = "stats-";
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+    private static final String MARKER_SUFFIX = ".marker";
+
+    // magic, format version, generation
+    private static final int JOURNAL_HEADER_BYTES = 4 + 4 + 8;
+    // length, crc
+    private static final int FRAME_HEADER_BYTES = 4 + 4;
+
+    // Record types inside a frame
+    private static final byte RECORD_GAME = 1;  // short index, game id
+    private static final byte RECORD_DELTA = 2; // uuid, short field, long delta, long timestamp
+    private static final byte RECORD_TIMES = 3; // uuid, short game index, long best, count, total, timestamp
+
+    // Fields other than per-game wins use negative indices
+    private static final short FIELD_GAMES_WON = -1;
+    private static final short FIELD_GAMES_PLAYED = -2;
+    private static final short FIELD_TOTAL_REWARDS = -3;
+    private static final short FIELD_LAST_PLAYED = -4;
+    private static final short FIELD_FASTEST_ANSWER = -5;
+
+    private final File folder;
+    private final long compactThreshold;
+    private final Logger logger;
+
+    // Newest snapshot, or null before the first compaction
+    private MappedStatsSnapshot snapshot;
+
+    // Players changed since the snapshot, with their full current values
+    private final Map<UUID, Stats> changed = new HashMap<>();
+
+    // Game ids known to this backend and their indices in the active journal
+    private final List<String> gameIds = new ArrayList<>();
+    private final Map<String, Integer> gameIndex = new HashMap<>();
+    private final Set<Integer> definedInJournal = new HashSet<>();
+
+    // Active journal
+    private FileChannel journal;
+    private long generation;
+    private long journalSize;
+
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "NebrixChatGames-Compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * @param folder Folder for the snapshot and journals
+     * @param compactThreshold Journal size in bytes after which it is folded into the snapshot
+     * @param logger Logger for compaction and recovery messages
+     */
+    public JournalPlayerStorage(File folder, long compactThreshold, Logger logger) {
+        this.folder = folder;
+        this.compactThreshold = compactThreshold;
+        this.logger = logger;
+    }
+
+    @Override
+    public synchronized void open() throws IOException {
+        if (!folder.exists() && !folder.mkdirs()) {
+            throw new IOException("Failed to create " + folder.getPath());
+        }
+
+        long snapshotGeneration = 0;
+        final TreeMap<Long, File> snapshots = listFiles(SNAPSHOT_SUFFIX);
+        if (!snapshots.isEmpty()) {
+            snapshot = MappedStatsSnapshot.open(snapshots.lastEntry().getValue());
+            snapshotGeneration = snapshot.getGeneration();
+            for (String gameId : snapshot.getGameIds()) {
+                registerGame(gameId);
+            }
+        }
+
+        // Files older than the snapshot are left over from an interrupted cleanup
+        deleteBefore(snapshotGeneration);
+
+        final TreeMap<Long, File> journals = listFiles(JOURNAL_SUFFIX);
+        final Map<Long, File> tail = journals.tailMap(snapshotGeneration, true);
+
+        long validEnd = JOURNAL_HEADER_BYTES;
+        for (File file : tail.values()) {
+            validEnd = replay(file);
+        }
+
+        if (tail.isEmpty()) {
+            startJournal(snapshotGeneration);
+        } else {
+            // Keep appending to the newest journal, without its torn tail
+            final long newest = journals.lastKey();
+            generation = newest;
+            journal = FileChannel.open(journalFile(newest).toPath(), StandardOpenOption.WRITE);
+            journal.truncate(validEnd);
+            journal.position(validEnd);
+            journalSize = validEnd;
+        }
+
+        if (journalSize > compactThreshold) {
+            triggerCompaction();
+        }
+    }
+
+    /**
+     * Check whether a one-time step such as the YAML import has completed for this folder
+     * @param name Marker name
+     * @return true if the marker was set
+     */
+    public boolean hasMarker(String name) {
+        return markerFile(name).isFile();
+    }
+
+    /**
+     * Record that a one-time step has completed
+     * The marker is synced and renamed into place, so it only exists once it is durable
+     * @param name Marker name
+     * @throws IOException if the marker cannot be written
+     */
+    public void setMarker(String name) throws IOException {
+        final File file = markerFile(name);
+        final File temp = new File(folder, file.getName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final ByteBuffer content = ByteBuffer.wrap(
+                    String.valueOf(System.currentTimeMillis()).getBytes(StandardCharsets.UTF_8));
+            while (content.hasRemaining()) {
+                channel.write(content);
+            }
+            channel.force(true);
+        }
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public synchronized PlayerData load(UUID playerId) {
+        final Stats stats = changed.get(playerId);
+        if (stats != null) {
+            return stats.toPlayerData(playerId);
+        }
+        // Offline players are a binary search over the mapped snapshot
+        return snapshot != null ? snapshot.find(playerId) : null;
+    }
+
+    @Override
+    public synchronized List<UUID> listPlayers() {
+        final int stored = snapshot != null ? snapshot.size() : 0;
+        final List<UUID> players = new ArrayList<>(stored + changed.size());
+        for (int i = 0; i < stored; i++) {
+            players.add(snapshot.idAt(i));
+        }
+        for (UUID playerId : changed.keySet()) {
+            if (snapshot == null || !snapshot.contains(playerId)) {
+                players.add(playerId);
+            }
+        }
+        return players;
+    }
+
+    @Override
+    public synchronized long saveAll(Collection<PlayerData> batch) throws IOException {
+        final long now = System.currentTimeMillis();
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(buffer);
+        final List<Integer> defined = new ArrayList<>();
+        final Map<UUID, Stats> updated = new HashMap<>();
+
+        for (PlayerData data : batch) {
+            final UUID playerId = data.getPlayerId();
+            final Stats next = Stats.of(data);
+            final Stats previous = updated.containsKey(playerId) ? updated.get(playerId) : current(playerId);
+            writeDiff(out, playerId, previous, next, now, defined);
+            updated.put(playerId, next);
+        }
+
+        if (buffer.size() == 0) {
+            return 0;
+        }
+
+        final byte[] payload = buffer.toByteArray();
+        final CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        final ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_BYTES + payload.length);
+        frame.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+
+        final long start = journal.position();
+        try {
+            while (frame.hasRemaining()) {
+                journal.write(frame);
+            }
+            // Group commit: one fsync for the whole batch
+            journal.force(false);
+
+        } catch (IOException e) {
+            definedInJournal.removeAll(defined);
+            try {
+                journal.truncate(start);
+                journal.position(start);
+            } catch (IOException ignored) {
+                // Replay drops the torn frame
+            }
+            throw e;
+        }
+
+        changed.putAll(updated);
+        journalSize = journal.position();
+
+        if (journalSize > compactThreshold) {
+            triggerCompaction();
+        }
+        return frame.limit();
+    }
+
+    @Override
+    public void close() {
+        compactor.shutdown();
+        try {
+            compactor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (this) {
+            if (journal == null) {
+                return;
+            }
+
+            try {
+                // Fold everything so the next start only maps the snapshot
+                if (journalSize > JOURNAL_HEADER_BYTES) {
+                    compact(freeze(generation + 1));
+                }
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Failed to compact stats journal on shutdown", e);
+            }
+
+            closeQuietly(journal);
+            journal = null;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Journal";
+    }
+
+    /**
+     * Current stored values of a player
+     */
+    private Stats current(UUID playerId) {
+        final Stats stats = changed.get(playerId);
+        if (stats != null) {
+            return stats;
+        }
+        final PlayerData stored = snapshot != null ? snapshot.find(playerId) : null;
+        return stored != null ? Stats.of(stored) : Stats.EMPTY;
+    }
+
+    /**
+     * Append the changes between two versions of a record as delta records
+     */
+    private void writeDiff(DataOutputStream out, UUID playerId, Stats previous, Stats next,
+                           long timestamp, List<Integer> defined) throws IOException {
+        writeDelta(out, playerId, FIELD_GAMES_WON, next.gamesWon - previous.gamesWon, timestamp);
+        writeDelta(out, playerId, FIELD_GAMES_PLAYED, next.gamesPlayed - previous.gamesPlayed, timestamp);
+        writeDelta(out, playerId, FIELD_TOTAL_REWARDS, next.totalRewards - previous.totalRewards, timestamp);
+        writeDelta(out, playerId, FIELD_LAST_PLAYED, next.lastPlayed - previous.lastPlayed, timestamp);
+        writeDelta(out, playerId, FIELD_FASTEST_ANSWER, next.fastestAnswer - previous.fastestAnswer, timestamp);
+
+        final Set<String> games = new HashSet<>(next.wins.keySet());
+        games.addAll(previous.wins.keySet());
+        for (String gameId : games) {
+            final long delta = next.wins.getOrDefault(gameId, 0) - previous.wins.getOrDefault(gameId, 0);
+            if (delta != 0) {
+                writeDelta(out, playerId, defineGame(out, gameId, defined), delta, timestamp);
+            }
+        }
+
+        // Answer times are written whole; they change at most once per win
+        for (Map.Entry<String, AnswerTimes> entry : next.times.entrySet()) {
+            if (entry.getValue().equals(previous.times.get(entry.getKey()))) {
+                continue;
+            }
+            final short index = defineGame(out, entry.getKey(), defined);
+            out.writeByte(RECORD_TIMES);
+            out.writeLong(playerId.getMostSignificantBits());
+            out.writeLong(playerId.getLeastSignificantBits());
+            out.writeShort(index);
+            out.writeLong(entry.getValue().best());
+            out.writeLong(entry.getValue().count());
+            out.writeLong(entry.getValue().total());
+            out.writeLong(timestamp);
+        }
+    }
+
+    private static void writeDelta(DataOutputStream out, UUID playerId, short field,
+                                   long delta, long timestamp) throws IOException {
+        if (delta == 0) {
+            return;
+        }
+        out.writeByte(RECORD_DELTA);
+        out.writeLong(playerId.getMostSignificantBits());
+        out.writeLong(playerId.getLeastSignificantBits());
+        out.writeShort(field);
+        out.writeLong(delta);
+        out.writeLong(timestamp);
+    }
+
+    /**
+     * Get the index of a game id, defining it in the active journal on first use
+     */
+    private short defineGame(DataOutputStream out, String gameId, List<Integer> defined) throws IOException {
+        final int index = registerGame(gameId);
+        if (index > Short.MAX_VALUE) {
+            throw new IOException("Too many game ids in stats journal");
+        }
+
+        if (definedInJournal.add(index)) {
+            defined.add(index);
+            final byte[] name = gameId.getBytes(StandardCharsets.UTF_8);
+            out.writeByte(RECORD_GAME);
+            out.writeShort(index);
+            out.writeShort(name.length);
+            out.write(name);
+        }
+        return (short) index;
+    }
+
+    private int registerGame(String gameId) {
+        return gameIndex.computeIfAbsent(gameId, id -> {
+            gameIds.add(id);
+            return gameIds.size() - 1;
+        });
+    }
+
+    /**
+     * Replay a journal into the current state
+     * Game indices are scoped to the journal that defines them
+     * @return Offset after the last intact frame
+     */
+    private long replay(File file) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        if (buffer.remaining() < JOURNAL_HEADER_BYTES || buffer.getInt() != JOURNAL_MAGIC) {
+            throw new IOException("Not a stats journal: " + file.getName());
+        }
+        if (buffer.getInt() != FORMAT_VERSION) {
+            throw new IOException("Unsupported stats journal version: " + file.getName());
+        }
+        buffer.getLong();
+
+        final Map<Integer, String> names = new HashMap<>();
+        final CRC32 crc = new CRC32();
+        int frames = 0;
+        while (buffer.remaining() >= FRAME_HEADER_BYTES) {
+            final int frameStart = buffer.position();
+            final int length = buffer.getInt();
+            final int checksum = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                buffer.position(frameStart);
+                break;
+            }
+
+            final ByteBuffer payload = buffer.slice();
+            payload.limit(length);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                buffer.position(frameStart);
+                break;
+            }
+
+            applyFrame(payload, names);
+            buffer.position(frameStart + FRAME_HEADER_BYTES + length);
+            frames++;
+        }
+
+        if (buffer.hasRemaining()) {
+            logger.warning("Dropped " + buffer.remaining() + " bytes of incomplete data at the end of "
+                    + file.getName());
+        }
+        if (frames > 0) {
+            logger.info("Replayed " + frames + " batches from " + file.getName());
+        }
+        return buffer.position();
+    }
+
+    private void applyFrame(ByteBuffer payload, Map<Integer, String> names) throws IOException {
+        while (payload.hasRemaining()) {
+            final byte type = payload.get();
+            if (type == RECORD_GAME) {
+                final int index = payload.getShort();
+                final byte[] name = new byte[payload.getShort()];
+                payload.get(name);
+                final String gameId = new String(name, StandardCharsets.UTF_8);
+                names.put(index, gameId);
+                registerGame(gameId);
+
+            } else if (type == RECORD_DELTA) {
+                final UUID playerId = new UUID(payload.getLong(), payload.getLong());
+                final short field = payload.getShort();
+                final long delta = payload.getLong();
+                payload.getLong(); // timestamp
+                applyDelta(changedStats(playerId), field, delta, names);
+
+            } else if (type == RECORD_TIMES) {
+                final UUID playerId = new UUID(payload.getLong(), payload.getLong());
+                final int index = payload.getShort();
+                final AnswerTimes times = new AnswerTimes(payload.getLong(), payload.getLong(), payload.getLong());
+                payload.getLong(); // timestamp
+                final String gameId = names.get(index);
+                if (gameId == null) {
+                    throw new IOException("Undefined game index " + index + " in stats journal");
+                }
+                changedStats(playerId).times.put(gameId, times);
+
+            } else {
+                throw new IOException("Unknown stats journal record type " + type);
+            }
+        }
+    }
+
+    /**
+     * Get the in-memory record of a player, copying it from the snapshot on first change
+     */
+    private Stats changedStats(UUID playerId) {
+        Stats stats = changed.get(playerId);
+        if (stats == null) {
+            stats = current(playerId).copy();
+            changed.put(playerId, stats);
+        }
+        return stats;
+    }
+
+    private static void applyDelta(Stats stats, short field, long delta, Map<Integer, String> names)
+            throws IOException {
+        switch (field) {
+            case FIELD_GAMES_WON -> stats.gamesWon += (int) delta;
+            case FIELD_GAMES_PLAYED -> stats.gamesPlayed += (int) delta;
+            case FIELD_TOTAL_REWARDS -> stats.totalRewards += delta;
+            case FIELD_LAST_PLAYED -> stats.lastPlayed += delta;
+            case FIELD_FASTEST_ANSWER -> stats.fastestAnswer += delta;
+            default -> {
+                final String gameId = names.get((int) field);
+                if (gameId == null) {
+                    throw new IOException("Undefined game index " + field + " in stats journal");
+                }
+                stats.wins.merge(gameId, (int) delta, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Rotate the journal and merge the changed players into a new snapshot in the background
+     * Only one compaction runs at a time; the active journal keeps taking writes
+     */
+    private void triggerCompaction() {
+        if (!compacting.compareAndSet(false, true)) {
+            return;
+        }
+
+        final Frozen frozen;
+        try {
+            frozen = freeze(generation + 1);
+            // The old journal stays active until the new one is written, so a failure changes nothing
+            final FileChannel previous = journal;
+            startJournal(frozen.generation());
+            closeQuietly(previous);
+        } catch (IOException e) {
+            compacting.set(false);
+            logger.log(Level.WARNING, "Failed to rotate stats journal", e);
+            return;
+        }
+
+        try {
+            compactor.execute(() -> {
+                try {
+                    compact(frozen);
+                } catch (IOException e) {
+                    // The journals stay, so nothing is lost; the next rotation tries again
+                    logger.log(Level.WARNING, "Failed to compact stats journal", e);
+                } finally {
+                    compacting.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            // Shutting down; close() folds the state instead
+            compacting.set(false);
+        }
+    }
+
+    /**
+     * Create a journal and make it the active one once its header is synced
+     * On failure the partial file is removed and the active journal is left unchanged
+     */
+    private void startJournal(long newGeneration) throws IOException {
+        final File file = journalFile(newGeneration);
+        final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+
+        try {
+            final ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER_BYTES);
+            header.putInt(JOURNAL_MAGIC).putInt(FORMAT_VERSION).putLong(newGeneration).flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            closeQuietly(channel);
+            try {
+                Files.deleteIfExists(file.toPath());
+            } catch (IOException ignored) {
+                // Nothing more to do; the next rotation truncates it
+            }
+            throw e;
+        }
+
+        journal = channel;
+        generation = newGeneration;
+        journalSize = JOURNAL_HEADER_BYTES;
+        definedInJournal.clear();
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // Closing anyway
+        }
+    }
+
+    /**
+     * Copy the changed players; the new snapshot covers every journal before the given generation
+     */
+    private Frozen freeze(long snapshotGeneration) {
+        final Map<UUID, Stats> copy = new HashMap<>(changed.size());
+        for (Map.Entry<UUID, Stats> entry : changed.entrySet()) {
+            copy.put(entry.getKey(), entry.getValue().copy());
+        }
+        return new Frozen(snapshotGeneration, new ArrayList<>(gameIds), snapshot, copy);
+    }
+
+    /**
+     * Merge frozen changes into a new snapshot, switch to it and delete what it replaces
+     * Players changed again since the freeze stay in memory
+     */
+    private void compact(Frozen frozen) throws IOException {
+        final long start = System.currentTimeMillis();
+        final List<PlayerData> records = new ArrayList<>(frozen.changed().size());
+        for (Map.Entry<UUID, Stats> entry : frozen.changed().entrySet()) {
+            records.add(entry.getValue().toPlayerData(entry.getKey()));
+        }
+
+        final File file = snapshotFile(frozen.generation());
+        final File temp = new File(folder, file.getName() + ".tmp");
+        MappedStatsSnapshot.write(temp, frozen.generation(), frozen.gameIds(), frozen.base(), records);
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        final MappedStatsSnapshot opened = MappedStatsSnapshot.open(file);
+
+        synchronized (this) {
+            snapshot = opened;
+            for (Map.Entry<UUID, Stats> entry : frozen.changed().entrySet()) {
+                final Stats stats = changed.get(entry.getKey());
+                if (stats != null && stats.sameAs(entry.getValue())) {
+                    changed.remove(entry.getKey());
+                }
+            }
+        }
+
+        deleteBefore(frozen.generation());
+        logger.fine("Compacted stats journal (" + opened.size() + " players, " + records.size()
+                + " changed) in " + (System.currentTimeMillis() - start) + "ms");
+    }
+
+    /**
+     * Delete journals and snapshots older than a generation
+     * A snapshot that is still mapped may refuse deletion on some platforms; the next start retries
+     */
+    private void deleteBefore(long snapshotGeneration) {
+        final List<File> stale = new ArrayList<>(listFiles(JOURNAL_SUFFIX).headMap(snapshotGeneration).values());
+        stale.addAll(listFiles(SNAPSHOT_SUFFIX).headMap(snapshotGeneration).values());
+
+        for (File file : stale) {
+            try {
+                Files.deleteIfExists(file.toPath());
+            } catch (IOException e) {
+                logger.fine("Could not delete " + file.getName() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * List numbered files with a suffix by generation
+     */
+    private TreeMap<Long, File> listFiles(String suffix) {
+        final TreeMap<Long, File> files = new TreeMap<>();
+        final File[] matches = folder.listFiles((dir, name) ->
+                name.startsWith(FILE_PREFIX) && name.endsWith(suffix));
+        if (matches == null) {
+            return files;
+        }
+
+        for (File file : matches) {
+            final String name = file.getName();
+            try {
+                files.put(Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - suffix.length())), file);
+            } catch (NumberFormatException ignored) {
+                // Not one of ours
+            }
+        }
+        return files;
+    }
+
+    private File journalFile(long journalGeneration) {
+        return new File(folder, FILE_PREFIX + journalGeneration + JOURNAL_SUFFIX);
+    }
+
+    private File markerFile(String name) {
+        return new File(folder, name + MARKER_SUFFIX);
+    }
+
+    private File snapshotFile(long snapshotGeneration) {
+        return new File(folder, FILE_PREFIX + snapshotGeneration + SNAPSHOT_SUFFIX);
+    }
+
+    /**
+     * Stored values of one player
+     */
+    private static final class Stats {
+        static final Stats EMPTY = new Stats();
+
+        int gamesWon;
+        int gamesPlayed;
+        long totalRewards;
+        long lastPlayed;
+        long fastestAnswer;
+        final Map<String, Integer> wins = new HashMap<>();
+        final Map<String, AnswerTimes> times = new HashMap<>();
+
+        static Stats of(PlayerData data) {
+            final Stats stats = new Stats();
+            stats.gamesWon = data.getGamesWon();
+            stats.gamesPlayed = data.getGamesPlayed();
+            stats.totalRewards = data.getTotalRewards();
+            stats.lastPlayed = data.getLastPlayed();
+            stats.fastestAnswer = data.getFastestAnswer();
+            stats.wins.putAll(data.getWins());
+            stats.times.putAll(data.getAnswerTimes());
+            return stats;
+        }
+
+        PlayerData toPlayerData(UUID playerId) {
+            final PlayerData data = new PlayerData(playerId, gamesWon, gamesPlayed, totalRewards, lastPlayed);
+            data.setFastestAnswer(fastestAnswer);
+            for (Map.Entry<String, Integer> entry : wins.entrySet()) {
+                data.setWins(entry.getKey(), entry.getValue());
+            }
+            for (Map.Entry<String, AnswerTimes> entry : times.entrySet()) {
+                data.setAnswerTimes(entry.getKey(), entry.getValue());
+            }
+            return data;
+        }
+
+        Stats copy() {
+            final Stats copy = new Stats();
+            copy.gamesWon = gamesWon;
+            copy.gamesPlayed = gamesPlayed;
+            copy.totalRewards = totalRewards;
+            copy.lastPlayed = lastPlayed;
+            copy.fastestAnswer = fastestAnswer;
+            copy.wins.putAll(wins);
+            copy.times.putAll(times);
+            return copy;
+        }
+
+        boolean sameAs(Stats other) {
+            return gamesWon == other.gamesWon && gamesPlayed == other.gamesPlayed
+                    && totalRewards == other.totalRewards && lastPlayed == other.lastPlayed
+                    && fastestAnswer == other.fastestAnswer
+                    && wins.equals(other.wins) && times.equals(other.times);
+        }
+    }
+
+    /**
+     * State handed to a compaction: the changed players at rotation time and the snapshot they apply to
+     */
+    private record Frozen(long generation, List<String> gameIds, MappedStatsSnapshot base,
+                          Map<UUID, Stats> changed) {}
+}
@@ -0,0 +1,311 @@
+package com.chunksmith.nebrixChatGames.data.storage;
+
+import com.chunksmith.nebrixChatGames.data.AnswerTimes;
+import com.chunksmith.nebrixChatGames.data.PlayerData;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Read-only player stats snapshot mapped into memory
+ * Records have a fixed width and are sorted by UUID, so a lookup is a binary search over
+ * the mapped file with no parsing. Each record holds one column of wins and answer times per
+ * game in the header.
+ */
+final class MappedStatsSnapshot {
+
+    private static final int MAGIC = 0x4E43534D; // NCSM
+    private static final int FORMAT_VERSION = 1;
+
+    // magic, version, generation, game count, record count, record width, data offset
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 4 + 4 + 4 + 8;
+    // uuid, games won, games played, total rewards, last played, fastest answer
+    private static final int FIXED_RECORD_BYTES = 16 + 4 + 4 + 8 + 8 + 8;
+    // wins, best answer, timed answers, total answer time
+    private static final int GAME_COLUMN_BYTES = 4 + 8 + 8 + 8;
+
+    /** Sort order of the records: most then least significant bits, signed */
+    static final Comparator<UUID> ORDER = Comparator
+            .comparingLong(UUID::getMostSignificantBits)
+            .thenComparingLong(UUID::getLeastSignificantBits);
+
+    private final long generation;
+    private final List<String> gameIds;
+    private final MappedByteBuffer buffer;
+    private final int recordCount;
+    private final int recordWidth;
+    private final int dataOffset;
+
+    private MappedStatsSnapshot(long generation, List<String> gameIds, MappedByteBuffer buffer, int recordCount,
+                                int recordWidth, int dataOffset) {
+        this.generation = generation;
+        this.gameIds = gameIds;
+        this.buffer = buffer;
+        this.recordCount = recordCount;
+        this.recordWidth = recordWidth;
+        this.dataOffset = dataOffset;
+    }
+
+    /**
+     * Map a snapshot file
+     * @param file The snapshot file
+     * @return The mapped snapshot
+     * @throws IOException if the file cannot be mapped or is not a valid snapshot
+     */
+    static MappedStatsSnapshot open(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final long length = channel.size();
+            if (length < HEADER_BYTES || length > Integer.MAX_VALUE) {
+                throw new IOException("Invalid stats snapshot size: " + file.getName());
+            }
+
+            // The mapping stays valid after the channel is closed
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+                throw new IOException("Unsupported stats snapshot format: " + file.getName());
+            }
+
+            final long generation = buffer.getLong(8);
+            final int gameCount = buffer.getInt(16);
+            final int recordCount = buffer.getInt(20);
+            final int recordWidth = buffer.getInt(24);
+            final long dataOffset = buffer.getLong(28);
+
+            if (gameCount < 0 || recordCount < 0 || (long) recordWidth != FIXED_RECORD_BYTES + (long) GAME_COLUMN_BYTES * gameCount
+                    || dataOffset < HEADER_BYTES || dataOffset + (long) recordCount * recordWidth != length) {
+                throw new IOException("Corrupt stats snapshot header: " + file.getName());
+            }
+
+            final List<String> gameIds = new ArrayList<>(gameCount);
+            int position = HEADER_BYTES;
+            for (int i = 0; i < gameCount; i++) {
+                final byte[] name = new byte[buffer.getShort(position) & 0xFFFF];
+                buffer.get(position + 2, name);
+                gameIds.add(new String(name, StandardCharsets.UTF_8));
+                position += 2 + name.length;
+            }
+
+            return new MappedStatsSnapshot(generation, Collections.unmodifiableList(gameIds), buffer,
+                    recordCount, recordWidth, (int) dataOffset);
+        }
+    }
+
+    long getGeneration() {
+        return generation;
+    }
+
+    List<String> getGameIds() {
+        return gameIds;
+    }
+
+    int size() {
+        return recordCount;
+    }
+
+    /**
+     * Look up a player
+     * @param playerId The player's UUID
+     * @return The stored record, or null if the player is not in the snapshot
+     */
+    PlayerData find(UUID playerId) {
+        final int index = indexOf(playerId);
+        return index >= 0 ? read(index) : null;
+    }
+
+    boolean contains(UUID playerId) {
+        return indexOf(playerId) >= 0;
+    }
+
+    /**
+     * Binary search over the mapped records
+     * @return Record index, or -1 if absent
+     */
+    private int indexOf(UUID playerId) {
+        final long msb = playerId.getMostSignificantBits();
+        final long lsb = playerId.getLeastSignificantBits();
+
+        int low = 0;
+        int high = recordCount - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int offset = dataOffset + mid * recordWidth;
+            int cmp = Long.compare(buffer.getLong(offset), msb);
+            if (cmp == 0) {
+                cmp = Long.compare(buffer.getLong(offset + 8), lsb);
+            }
+
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Decode the record at an index
+     */
+    PlayerData read(int index) {
+        final int offset = dataOffset + index * recordWidth;
+        final PlayerData data = new PlayerData(
+                new UUID(buffer.getLong(offset), buffer.getLong(offset + 8)),
+                buffer.getInt(offset + 16),
+                buffer.getInt(offset + 20),
+                buffer.getLong(offset + 24),
+                buffer.getLong(offset + 32));
+        data.setFastestAnswer(buffer.getLong(offset + 40));
+
+        for (int game = 0; game < gameIds.size(); game++) {
+            final int column = offset + FIXED_RECORD_BYTES + GAME_COLUMN_BYTES * game;
+            final int wins = buffer.getInt(column);
+            if (wins != 0) {
+                data.setWins(gameIds.get(game), wins);
+            }
+            final long count = buffer.getLong(column + 12);
+            if (count != 0) {
+                data.setAnswerTimes(gameIds.get(game),
+                        new AnswerTimes(buffer.getLong(column + 4), count, buffer.getLong(column + 20)));
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Write a new snapshot that merges changed records into a base snapshot
+     * @param file Target file, written and synced before this returns
+     * @param generation Generation of the new snapshot
+     * @param gameIds Game ids to give a column; must contain every game id that has wins or answer times
+     * @param base Previous snapshot, or null
+     * @param changes Changed records; they replace the base record with the same UUID
+     * @throws IOException if the file cannot be written
+     */
+    static void write(File file, long generation, List<String> gameIds, MappedStatsSnapshot base,
+                      List<PlayerData> changes) throws IOException {
+        final List<PlayerData> sorted = new ArrayList<>(changes);
+        sorted.sort(Comparator.comparing(PlayerData::getPlayerId, ORDER));
+
+        int added = 0;
+        for (PlayerData data : sorted) {
+            if (base == null || !base.contains(data.getPlayerId())) {
+                added++;
+            }
+        }
+        final int baseCount = base != null ? base.size() : 0;
+        final int recordCount = baseCount + added;
+
+        final Map<String, Integer> columns = new HashMap<>(gameIds.size());
+        final List<byte[]> names = new ArrayList<>(gameIds.size());
+        int tableBytes = 0;
+        for (String gameId : gameIds) {
+            final byte[] name = gameId.getBytes(StandardCharsets.UTF_8);
+            columns.put(gameId, columns.size());
+            names.add(name);
+            tableBytes += 2 + name.length;
+        }
+        final int recordWidth = FIXED_RECORD_BYTES + GAME_COLUMN_BYTES * gameIds.size();
+        final long dataOffset = HEADER_BYTES + tableBytes;
+
+        try (FileOutputStream stream = new FileOutputStream(file);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, 1 << 16))) {
+
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(generation);
+            out.writeInt(gameIds.size());
+            out.writeInt(recordCount);
+            out.writeInt(recordWidth);
+            out.writeLong(dataOffset);
+            for (byte[] name : names) {
+                out.writeShort(name.length);
+                out.write(name);
+            }
+
+            // Merge two sorted runs; a changed record replaces the base one
+            final int[] wins = new int[gameIds.size()];
+            final AnswerTimes[] times = new AnswerTimes[gameIds.size()];
+            int baseIndex = 0;
+            int changeIndex = 0;
+            while (baseIndex < baseCount || changeIndex < sorted.size()) {
+                final PlayerData record;
+                if (changeIndex >= sorted.size()) {
+                    record = base.read(baseIndex++);
+                } else if (baseIndex >= baseCount) {
+                    record = sorted.get(changeIndex++);
+                } else {
+                    final int cmp = ORDER.compare(base.idAt(baseIndex), sorted.get(changeIndex).getPlayerId());
+                    if (cmp < 0) {
+                        record = base.read(baseIndex++);
+                    } else {
+                        record = sorted.get(changeIndex++);
+                        if (cmp == 0) {
+                            baseIndex++;
+                        }
+                    }
+                }
+                writeRecord(out, record, columns, wins, times);
+            }
+            out.flush();
+            stream.getFD().sync();
+        }
+    }
+
+    /**
+     * Get the UUID of the record at an index without decoding the rest
+     */
+    UUID idAt(int index) {
+        final int offset = dataOffset + index * recordWidth;
+        return new UUID(buffer.getLong(offset), buffer.getLong(offset + 8));
+    }
+
+    private static void writeRecord(DataOutputStream out, PlayerData data, Map<String, Integer> columns,
+                                    int[] wins, AnswerTimes[] times) throws IOException {
+        out.writeLong(data.getPlayerId().getMostSignificantBits());
+        out.writeLong(data.getPlayerId().getLeastSignificantBits());
+        out.writeInt(data.getGamesWon());
+        out.writeInt(data.getGamesPlayed());
+        out.writeLong(data.getTotalRewards());
+        out.writeLong(data.getLastPlayed());
+        out.writeLong(data.getFastestAnswer());
+
+        Arrays.fill(wins, 0);
+        Arrays.fill(times, AnswerTimes.NONE);
+        for (Map.Entry<String, Integer> entry : data.getWins().entrySet()) {
+            wins[column(columns, entry.getKey())] = entry.getValue();
+        }
+        for (Map.Entry<String, AnswerTimes> entry : data.getAnswerTimes().entrySet()) {
+            times[column(columns, entry.getKey())] = entry.getValue();
+        }
+        for (int game = 0; game < wins.length; game++) {
+            out.writeInt(wins[game]);
+            out.writeLong(times[game].best());
+            out.writeLong(times[game].count());
+            out.writeLong(times[game].total());
+        }
+    }
+
+    private static int column(Map<String, Integer> columns, String gameId) throws IOException {
+        final Integer column = columns.get(gameId);
+        if (column == null) {
+            throw new IOException("Game " + gameId + " has no column in the stats snapshot");
+        }
+        return column;
+    }
+}
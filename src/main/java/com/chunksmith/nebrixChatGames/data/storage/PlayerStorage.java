@@ -0,0 +1,56 @@
+package com.chunksmith.nebrixChatGames.data.storage;
+
+import com.chunksmith.nebrixChatGames.data.PlayerData;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Persistent backend for player statistics
+ * Implementations are called from I/O threads only, never from the main or chat thread
+ */
+public interface PlayerStorage {
+
+    /**
+     * Open the backend, creating files and schema as needed
+     * @throws IOException if the backend cannot be opened
+     */
+    void open() throws IOException;
+
+    /**
+     * Load a single player
+     * @param playerId The player's UUID
+     * @return Stored data, or null if the player has no record yet
+     * @throws IOException if the record cannot be read
+     */
+    PlayerData load(UUID playerId) throws IOException;
+
+    /**
+     * List every stored player
+     * @return UUIDs of all players that have a record
+     * @throws IOException if the backend cannot be read
+     */
+    List<UUID> listPlayers() throws IOException;
+
+    /**
+     * Write a batch of records
+     * Records are detached copies and are written as a whole, replacing stored values
+     * @param batch The records to write
+     * @return Number of payload bytes written
+     * @throws IOException if the batch cannot be written
+     */
+    long saveAll(Collection<PlayerData> batch) throws IOException;
+
+    /**
+     * Flush and release all resources
+     */
+    void close();
+
+    /**
+     * Get the name of this backend for logging
+     * @return Backend name
+     */
+    String getName();
+}
@@ -0,0 +1,337 @@
+package com.chunksmith.nebrixChatGames.data.storage;
+
+import com.chunksmith.nebrixChatGames.data.AnswerTimes;
+import com.chunksmith.nebrixChatGames.data.PlayerData;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * SQLite backend using the driver bundled with the server
+ * One connection in WAL mode with prepared statements; every batch is a single transaction
+ */
+public class SqlitePlayerStorage implements PlayerStorage {
+
+    private static final String DRIVER = "org.sqlite.JDBC";
+
+    private static final String[] SCHEMA = {
+            "CREATE TABLE IF NOT EXISTS players ("
+                    + "uuid TEXT PRIMARY KEY, "
+                    + "games_won INTEGER NOT NULL DEFAULT 0, "
+                    + "games_played INTEGER NOT NULL DEFAULT 0, "
+                    + "total_rewards INTEGER NOT NULL DEFAULT 0, "
+                    + "last_played INTEGER NOT NULL DEFAULT 0, "
+                    + "fastest_answer INTEGER NOT NULL DEFAULT 0)",
+            "CREATE TABLE IF NOT EXISTS player_wins ("
+                    + "uuid TEXT NOT NULL, "
+                    + "game_id TEXT NOT NULL, "
+                    + "wins INTEGER NOT NULL DEFAULT 0, "
+                    + "PRIMARY KEY (uuid, game_id)) WITHOUT ROWID",
+            "CREATE TABLE IF NOT EXISTS player_answer_times ("
+                    + "uuid TEXT NOT NULL, "
+                    + "game_id TEXT NOT NULL, "
+                    + "best INTEGER NOT NULL DEFAULT 0, "
+                    + "answers INTEGER NOT NULL DEFAULT 0, "
+                    + "total INTEGER NOT NULL DEFAULT 0, "
+                    + "PRIMARY KEY (uuid, game_id)) WITHOUT ROWID",
+            "CREATE TABLE IF NOT EXISTS metadata ("
+                    + "meta_key TEXT PRIMARY KEY, "
+                    + "meta_value TEXT NOT NULL)"
+    };
+
+    private static final String SELECT_PLAYER =
+            "SELECT games_won, games_played, total_rewards, last_played, fastest_answer FROM players WHERE uuid = ?";
+    private static final String SELECT_WINS =
+            "SELECT game_id, wins FROM player_wins WHERE uuid = ?";
+    private static final String UPSERT_PLAYER =
+            "INSERT INTO players (uuid, games_won, games_played, total_rewards, last_played, fastest_answer) "
+                    + "VALUES (?, ?, ?, ?, ?, ?) "
+                    + "ON CONFLICT(uuid) DO UPDATE SET games_won = excluded.games_won, "
+                    + "games_played = excluded.games_played, total_rewards = excluded.total_rewards, "
+                    + "last_played = excluded.last_played, fastest_answer = excluded.fastest_answer";
+    private static final String UPSERT_WINS =
+            "INSERT INTO player_wins (uuid, game_id, wins) VALUES (?, ?, ?) "
+                    + "ON CONFLICT(uuid, game_id) DO UPDATE SET wins = excluded.wins";
+    private static final String SELECT_TIMES =
+            "SELECT game_id, best, answers, total FROM player_answer_times WHERE uuid = ?";
+    private static final String UPSERT_TIMES =
+            "INSERT INTO player_answer_times (uuid, game_id, best, answers, total) VALUES (?, ?, ?, ?, ?) "
+                    + "ON CONFLICT(uuid, game_id) DO UPDATE SET best = excluded.best, "
+                    + "answers = excluded.answers, total = excluded.total";
+    private static final String SELECT_UUIDS =
+            "SELECT uuid FROM players";
+    private static final String SELECT_META =
+            "SELECT meta_value FROM metadata WHERE meta_key = ?";
+    private static final String UPSERT_META =
+            "INSERT INTO metadata (meta_key, meta_value) VALUES (?, ?) "
+                    + "ON CONFLICT(meta_key) DO UPDATE SET meta_value = excluded.meta_value";
+
+    // Payload size of one row: uuid text plus the integer columns
+    private static final int PLAYER_ROW_BYTES = 36 + 4 + 4 + 8 + 8 + 8;
+    private static final int WINS_ROW_BYTES = 36 + 4;
+    private static final int TIMES_ROW_BYTES = 36 + 8 + 8 + 8;
+
+    private final File databaseFile;
+
+    // SQLite allows one writer; all access goes through this connection under its lock
+    private Connection connection;
+    private PreparedStatement selectPlayer;
+    private PreparedStatement selectWins;
+    private PreparedStatement upsertPlayer;
+    private PreparedStatement upsertWins;
+    private PreparedStatement selectTimes;
+    private PreparedStatement upsertTimes;
+
+    public SqlitePlayerStorage(File databaseFile) {
+        this.databaseFile = databaseFile;
+    }
+
+    /**
+     * Check whether the SQLite driver is on the classpath
+     * @return true if the driver can be loaded
+     */
+    public static boolean isDriverAvailable() {
+        try {
+            Class.forName(DRIVER);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public synchronized void open() throws IOException {
+        try {
+            Class.forName(DRIVER);
+            connection = DriverManager.getConnection("jdbc:sqlite:" + databaseFile.getAbsolutePath());
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PRAGMA journal_mode=WAL");
+                statement.execute("PRAGMA synchronous=NORMAL");
+                statement.execute("PRAGMA foreign_keys=OFF");
+                for (String ddl : SCHEMA) {
+                    statement.execute(ddl);
+                }
+            }
+
+            selectPlayer = connection.prepareStatement(SELECT_PLAYER);
+            selectWins = connection.prepareStatement(SELECT_WINS);
+            upsertPlayer = connection.prepareStatement(UPSERT_PLAYER);
+            upsertWins = connection.prepareStatement(UPSERT_WINS);
+            selectTimes = connection.prepareStatement(SELECT_TIMES);
+            upsertTimes = connection.prepareStatement(UPSERT_TIMES);
+
+        } catch (ClassNotFoundException | SQLException e) {
+            close();
+            throw new IOException("Failed to open SQLite database " + databaseFile.getName(), e);
+        }
+    }
+
+    @Override
+    public synchronized PlayerData load(UUID playerId) throws IOException {
+        final String key = playerId.toString();
+
+        try {
+            final PlayerData data;
+            selectPlayer.setString(1, key);
+            try (ResultSet result = selectPlayer.executeQuery()) {
+                if (!result.next()) {
+                    return null;
+                }
+                data = new PlayerData(playerId, result.getInt(1), result.getInt(2),
+                        result.getLong(3), result.getLong(4));
+                data.setFastestAnswer(result.getLong(5));
+            }
+
+            selectWins.setString(1, key);
+            try (ResultSet result = selectWins.executeQuery()) {
+                while (result.next()) {
+                    data.setWins(result.getString(1), result.getInt(2));
+                }
+            }
+
+            selectTimes.setString(1, key);
+            try (ResultSet result = selectTimes.executeQuery()) {
+                while (result.next()) {
+                    data.setAnswerTimes(result.getString(1),
+                            new AnswerTimes(result.getLong(2), result.getLong(3), result.getLong(4)));
+                }
+            }
+            return data;
+
+        } catch (SQLException e) {
+            throw new IOException("Failed to load player " + playerId, e);
+        }
+    }
+
+    @Override
+    public synchronized long saveAll(Collection<PlayerData> batch) throws IOException {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        long bytes = 0;
+        try {
+            connection.setAutoCommit(false);
+
+            for (PlayerData data : batch) {
+                final String key = data.getPlayerId().toString();
+
+                upsertPlayer.setString(1, key);
+                upsertPlayer.setInt(2, data.getGamesWon());
+                upsertPlayer.setInt(3, data.getGamesPlayed());
+                upsertPlayer.setLong(4, data.getTotalRewards());
+                upsertPlayer.setLong(5, data.getLastPlayed());
+                upsertPlayer.setLong(6, data.getFastestAnswer());
+                upsertPlayer.addBatch();
+                bytes += PLAYER_ROW_BYTES;
+
+                for (Map.Entry<String, Integer> entry : data.getWins().entrySet()) {
+                    upsertWins.setString(1, key);
+                    upsertWins.setString(2, entry.getKey());
+                    upsertWins.setInt(3, entry.getValue());
+                    upsertWins.addBatch();
+                    bytes += WINS_ROW_BYTES + entry.getKey().length();
+                }
+
+                for (Map.Entry<String, AnswerTimes> entry : data.getAnswerTimes().entrySet()) {
+                    upsertTimes.setString(1, key);
+                    upsertTimes.setString(2, entry.getKey());
+                    upsertTimes.setLong(3, entry.getValue().best());
+                    upsertTimes.setLong(4, entry.getValue().count());
+                    upsertTimes.setLong(5, entry.getValue().total());
+                    upsertTimes.addBatch();
+                    bytes += TIMES_ROW_BYTES + entry.getKey().length();
+                }
+            }
+
+            upsertPlayer.executeBatch();
+            upsertWins.executeBatch();
+            upsertTimes.executeBatch();
+            connection.commit();
+            return bytes;
+
+        } catch (SQLException e) {
+            rollback();
+            throw new IOException("Failed to save " + batch.size() + " players", e);
+        } finally {
+            restoreAutoCommit();
+        }
+    }
+
+    @Override
+    public synchronized List<UUID> listPlayers() throws IOException {
+        final List<UUID> players = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(SELECT_UUIDS)) {
+            while (result.next()) {
+                try {
+                    players.add(UUID.fromString(result.getString(1)));
+                } catch (IllegalArgumentException ignored) {
+                    // Not a player row
+                }
+            }
+            return players;
+
+        } catch (SQLException e) {
+            throw new IOException("Failed to list players", e);
+        }
+    }
+
+    /**
+     * Read a metadata value
+     * @param key The metadata key
+     * @return Stored value, or null if not set
+     * @throws IOException if the value cannot be read
+     */
+    public synchronized String getMetadata(String key) throws IOException {
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_META)) {
+            statement.setString(1, key);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() ? result.getString(1) : null;
+            }
+        } catch (SQLException e) {
+            throw new IOException("Failed to read metadata " + key, e);
+        }
+    }
+
+    /**
+     * Write a metadata value
+     * @param key The metadata key
+     * @param value The value
+     * @throws IOException if the value cannot be written
+     */
+    public synchronized void setMetadata(String key, String value) throws IOException {
+        try (PreparedStatement statement = connection.prepareStatement(UPSERT_META)) {
+            statement.setString(1, key);
+            statement.setString(2, value);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new IOException("Failed to write metadata " + key, e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        closeQuietly(selectPlayer);
+        closeQuietly(selectWins);
+        closeQuietly(upsertPlayer);
+        closeQuietly(upsertWins);
+        closeQuietly(selectTimes);
+        closeQuietly(upsertTimes);
+        closeQuietly(connection);
+        selectPlayer = null;
+        selectWins = null;
+        upsertPlayer = null;
+        upsertWins = null;
+        selectTimes = null;
+        upsertTimes = null;
+        connection = null;
+    }
+
+    @Override
+    public String getName() {
+        return "SQLite";
+    }
+
+    private void rollback() {
+        try {
+            upsertPlayer.clearBatch();
+            upsertWins.clearBatch();
+            upsertTimes.clearBatch();
+            connection.rollback();
+        } catch (SQLException ignored) {
+            // The original failure is reported
+        }
+    }
+
+    private void restoreAutoCommit() {
+        try {
+            connection.setAutoCommit(true);
+        } catch (SQLException ignored) {
+            // Connection is broken, the next call reports it
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (Exception ignored) {
+            // Closing anyway
+        }
+    }
+}
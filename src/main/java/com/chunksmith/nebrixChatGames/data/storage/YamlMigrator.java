@@ -0,0 +1,101 @@
+package com.chunksmith.nebrixChatGames.data.storage;
+
+import com.chunksmith.nebrixChatGames.data.PlayerData;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * One-time import of the per-player YAML files into another backend
+ * The YAML files are left in place; each target records the import so it never runs twice
+ */
+public class YamlMigrator {
+
+    private static final String MIGRATED_KEY = "yaml-migrated";
+
+    // Records per batch
+    private static final int BATCH_SIZE = 500;
+
+    private final Logger logger;
+    private final YamlPlayerStorage source;
+
+    public YamlMigrator(Logger logger, YamlPlayerStorage source) {
+        this.logger = logger;
+        this.source = source;
+    }
+
+    /**
+     * Import all YAML player files into SQLite unless that already happened
+     * @param target The SQLite backend
+     * @return Number of imported players
+     * @throws IOException if the database cannot be written
+     */
+    public int migrateIfNeeded(SqlitePlayerStorage target) throws IOException {
+        if (target.getMetadata(MIGRATED_KEY) != null) {
+            return 0;
+        }
+
+        final int imported = importAll(target);
+        target.setMetadata(MIGRATED_KEY, String.valueOf(System.currentTimeMillis()));
+        return imported;
+    }
+
+    /**
+     * Import all YAML player files into the journal unless that already happened
+     * The marker is only set once every file is imported; an interrupted import reruns in full,
+     * which is safe because the journal only records differences to the stored values
+     * @param target The journal backend
+     * @return Number of imported players
+     * @throws IOException if the journal cannot be written
+     */
+    public int migrateIfNeeded(JournalPlayerStorage target) throws IOException {
+        if (target.hasMarker(MIGRATED_KEY)) {
+            return 0;
+        }
+
+        final int imported = importAll(target);
+        target.setMarker(MIGRATED_KEY);
+        return imported;
+    }
+
+    private int importAll(PlayerStorage target) throws IOException {
+        final List<UUID> players = source.listPlayers();
+        if (!players.isEmpty()) {
+            logger.info("Importing " + players.size() + " player files into " + target.getName() + "...");
+        }
+
+        final long start = System.currentTimeMillis();
+        final List<PlayerData> batch = new ArrayList<>(BATCH_SIZE);
+        int imported = 0;
+
+        for (UUID playerId : players) {
+            try {
+                final PlayerData data = source.load(playerId);
+                if (data != null) {
+                    batch.add(data);
+                }
+            } catch (Exception e) {
+                logger.log(Level.WARNING, "Skipping unreadable player file for " + playerId, e);
+            }
+
+            if (batch.size() >= BATCH_SIZE) {
+                target.saveAll(batch);
+                imported += batch.size();
+                batch.clear();
+            }
+        }
+
+        target.saveAll(batch);
+        imported += batch.size();
+
+        if (imported > 0) {
+            logger.info("Imported " + imported + " players into " + target.getName() + " in "
+                    + (System.currentTimeMillis() - start) + "ms");
+        }
+        return imported;
+    }
+}
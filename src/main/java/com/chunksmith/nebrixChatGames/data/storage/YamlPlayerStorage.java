@@ -0,0 +1,94 @@
+package com.chunksmith.nebrixChatGames.data.storage;
+
+import com.chunksmith.nebrixChatGames.data.PlayerData;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Flat file backend: one YAML file per player in the playerdata folder
+ */
+public class YamlPlayerStorage implements PlayerStorage {
+
+    private static final String EXTENSION = ".yml";
+
+    private final File dataFolder;
+
+    public YamlPlayerStorage(File dataFolder) {
+        this.dataFolder = dataFolder;
+    }
+
+    @Override
+    public void open() throws IOException {
+        if (!dataFolder.exists() && !dataFolder.mkdirs()) {
+            throw new IOException("Failed to create " + dataFolder.getPath());
+        }
+    }
+
+    @Override
+    public PlayerData load(UUID playerId) {
+        final File playerFile = new File(dataFolder, playerId + EXTENSION);
+        if (!playerFile.exists()) {
+            return null;
+        }
+
+        final FileConfiguration config = YamlConfiguration.loadConfiguration(playerFile);
+        return PlayerData.fromConfig(playerId, config);
+    }
+
+    @Override
+    public long saveAll(Collection<PlayerData> batch) throws IOException {
+        long bytes = 0;
+        for (PlayerData data : batch) {
+            final File playerFile = new File(dataFolder, data.getPlayerId() + EXTENSION);
+            final FileConfiguration config = new YamlConfiguration();
+
+            data.saveToConfig(config);
+            final byte[] encoded = config.saveToString().getBytes(StandardCharsets.UTF_8);
+            Files.write(playerFile.toPath(), encoded);
+            bytes += encoded.length;
+        }
+        return bytes;
+    }
+
+    /**
+     * List the players that have a data file
+     * @return UUIDs of all stored players, files with invalid names are skipped
+     */
+    @Override
+    public List<UUID> listPlayers() {
+        final File[] files = dataFolder.listFiles((dir, name) -> name.endsWith(EXTENSION));
+        final List<UUID> players = new ArrayList<>(files != null ? files.length : 0);
+        if (files == null) {
+            return players;
+        }
+
+        for (File file : files) {
+            final String name = file.getName();
+            try {
+                players.add(UUID.fromString(name.substring(0, name.length() - EXTENSION.length())));
+            } catch (IllegalArgumentException ignored) {
+                // Not a player file
+            }
+        }
+        return players;
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release
+    }
+
+    @Override
+    public String getName() {
+        return "YAML";
+    }
+}
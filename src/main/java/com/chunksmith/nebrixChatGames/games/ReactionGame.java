@@ -2,12 +2,12 @@ package com.chunksmith.nebrixChatGames.games;
 import com.chunksmith.nebrixChatGames.NebrixChatGames;
 import com.chunksmith.nebrixChatGames.api.AbstractChatGame;
 import com.chunksmith.nebrixChatGames.api.GameRound;
+import com.chunksmith.nebrixChatGames.util.RecentWords;
+import com.chunksmith.nebrixChatGames.util.WordFilter;
+import com.chunksmith.nebrixChatGames.util.WordIndex;
 import com.chunksmith.nebrixChatGames.util.WordProvider;
 import org.bukkit.entity.Player;
 
-import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
-
 /**
  * Fast reaction game where players type the displayed word
  */
@@ -18,10 +18,12 @@ public class ReactionGame extends AbstractChatGame {
     private static final String DEFAULT_WORD = "react";
 
     private final WordProvider wordProvider;
+    private final RecentWords recentWords;
 
     public ReactionGame(NebrixChatGames plugin, WordProvider wordProvider) {
         super(plugin);
         this.wordProvider = wordProvider;
+        this.recentWords = new RecentWords(config.getRecentWordMemory());
     }
 
     @Override
@@ -51,29 +53,33 @@ public class ReactionGame extends AbstractChatGame {
 
     @Override
     public boolean isCorrectAnswer(String answer, Player player, GameRound round) {
-        return checkSimpleAnswer(answer, round.getCorrectAnswer(), round.isCaseSensitive());
+        return checkFuzzyAnswer(answer, round.getCorrectAnswer(), round.isCaseSensitive());
+    }
+
+    @Override
+    public String getAnswerKey(GameRound round) {
+        return getFuzzyAnswerKey(round.getCorrectAnswer());
     }
 
     /**
      * Select a word for reaction game (typically shorter words)
      */
     private String selectReactionWord() {
-        final List<String> availableWords = wordProvider.getWords();
-
-        if (availableWords.isEmpty()) {
-            return DEFAULT_WORD;
-        }
+        final WordIndex words = wordProvider.getIndex();
 
         // Prefer shorter words for reaction games
-        final List<String> shortWords = availableWords.stream()
-                .filter(word -> word.length() >= 3 && word.length() <= 8)
-                .toList();
-
-        if (!shortWords.isEmpty()) {
-            return shortWords.get(ThreadLocalRandom.current().nextInt(shortWords.size())).toLowerCase();
+        final WordFilter filter = getWordFilter(config.getReactionMinLength(), config.getReactionMaxLength());
+        final String word = words.select(filter, recentWords);
+        if (word != null) {
+            return word;
         }
 
         // Fallback to any word
-        return availableWords.get(ThreadLocalRandom.current().nextInt(availableWords.size())).toLowerCase();
+        final String any = words.randomWord();
+        if (any == null) {
+            return DEFAULT_WORD;
+        }
+        warnUnmatchedFilter(words, filter);
+        return any;
     }
 }
\ No newline at end of file
@@ -2,10 +2,12 @@ package com.chunksmith.nebrixChatGames.games;
 import com.chunksmith.nebrixChatGames.NebrixChatGames;
 import com.chunksmith.nebrixChatGames.api.AbstractChatGame;
 import com.chunksmith.nebrixChatGames.api.GameRound;
+import com.chunksmith.nebrixChatGames.util.RecentWords;
+import com.chunksmith.nebrixChatGames.util.WordFilter;
+import com.chunksmith.nebrixChatGames.util.WordIndex;
 import com.chunksmith.nebrixChatGames.util.WordProvider;
 import org.bukkit.entity.Player;
 
-import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.logging.Level;
 
@@ -19,13 +21,14 @@ public class UnscrambleGame extends AbstractChatGame {
     private static final String GAME_ID = "unscramble";
     private static final String DISPLAY_NAME = "Unscramble";
     private static final String DEFAULT_WORD = "minecraft";
-    private static final int MAX_WORD_SELECTION_ATTEMPTS = 50;
 
     private final WordProvider wordProvider;
+    private final RecentWords recentWords;
 
     public UnscrambleGame(NebrixChatGames plugin, WordProvider wordProvider) {
         super(plugin);
         this.wordProvider = wordProvider;
+        this.recentWords = new RecentWords(config.getRecentWordMemory());
     }
 
     @Override
@@ -77,37 +80,33 @@ public class UnscrambleGame extends AbstractChatGame {
 
     @Override
     public boolean isCorrectAnswer(String answer, Player player, GameRound round) {
-        return checkSimpleAnswer(answer, round.getCorrectAnswer(), round.isCaseSensitive());
+        return checkFuzzyAnswer(answer, round.getCorrectAnswer(), round.isCaseSensitive());
+    }
+
+    @Override
+    public String getAnswerKey(GameRound round) {
+        return getFuzzyAnswerKey(round.getCorrectAnswer());
     }
 
     /**
      * Select an appropriate word for unscrambling
      */
     private String selectWord() {
-        final List<String> availableWords = wordProvider.getWords();
+        final WordIndex words = wordProvider.getIndex();
+        final WordFilter filter = getWordFilter(config.getUnscrambleMinLength(), config.getUnscrambleMaxLength());
+        final String word = words.select(filter, recentWords);
+        if (word != null) {
+            return word;
+        }
 
-        if (availableWords.isEmpty()) {
+        // Fallback: use any word
+        final String any = words.randomWord();
+        if (any == null) {
             getLogger().warning("No words available in word list, using default");
             return DEFAULT_WORD;
         }
-
-        final int minLength = config.getUnscrambleMinLength();
-        final int maxLength = config.getUnscrambleMaxLength();
-
-        // Try to find a word within length constraints
-        for (int attempt = 0; attempt < MAX_WORD_SELECTION_ATTEMPTS; attempt++) {
-            final String candidate = availableWords.get(
-                    ThreadLocalRandom.current().nextInt(availableWords.size())
-            );
-
-            if (candidate.length() >= minLength && candidate.length() <= maxLength) {
-                return candidate.toLowerCase();
-            }
-        }
-
-        // Fallback: use any word
-        getLogger().fine("Could not find word within length constraints, using random word");
-        return availableWords.get(ThreadLocalRandom.current().nextInt(availableWords.size())).toLowerCase();
+        warnUnmatchedFilter(words, filter);
+        return any;
     }
 
     /**
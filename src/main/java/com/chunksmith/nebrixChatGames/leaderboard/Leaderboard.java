@@ -0,0 +1,102 @@
+package com.chunksmith.nebrixChatGames.leaderboard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Ranked win counts of one category
+ * Scores only go up, so live wins and the startup seed can be applied in any order
+ */
+public class Leaderboard {
+
+    private final Map<UUID, Integer> scores = new HashMap<>();
+    private final RankTree tree = new RankTree();
+
+    // Bumped on every change, so readers can tell whether ranks they derived are still current
+    private long version;
+
+    /**
+     * Record a player's score if it is higher than the one on the board
+     * @param playerId The player's UUID
+     * @param score Total wins in this category
+     */
+    public synchronized void offer(UUID playerId, int score) {
+        final Integer current = scores.get(playerId);
+        if (score <= 0 || (current != null && current >= score)) {
+            return;
+        }
+
+        if (current != null) {
+            tree.remove(playerId, current);
+        }
+        tree.insert(playerId, score);
+        scores.put(playerId, score);
+        version++;
+    }
+
+    /**
+     * Add one to a player's score
+     * @param playerId The player's UUID
+     * @return The new score
+     */
+    public synchronized int increment(UUID playerId) {
+        final Integer current = scores.get(playerId);
+        final int score = current != null ? current + 1 : 1;
+        if (current != null) {
+            tree.remove(playerId, current);
+        }
+        tree.insert(playerId, score);
+        scores.put(playerId, score);
+        version++;
+        return score;
+    }
+
+    /**
+     * Get a player's position
+     * @param playerId The player's UUID
+     * @return One-based rank, or 0 if the player has no wins here
+     */
+    public synchronized int getRank(UUID playerId) {
+        final Integer score = scores.get(playerId);
+        return score != null ? tree.rank(playerId, score) + 1 : 0;
+    }
+
+    public synchronized int getScore(UUID playerId) {
+        return scores.getOrDefault(playerId, 0);
+    }
+
+    /**
+     * Get a page of the board
+     * @param offset Zero-based position of the first entry
+     * @param limit Maximum number of entries
+     * @return Entries in rank order
+     */
+    public synchronized List<Entry> getTop(int offset, int limit) {
+        final int end = Math.min(tree.size(), offset + limit);
+        final List<Entry> entries = new ArrayList<>(Math.max(0, end - offset));
+        for (int i = Math.max(0, offset); i < end; i++) {
+            final RankTree.Node node = tree.get(i);
+            entries.add(new Entry(i + 1, node.playerId, node.score));
+        }
+        return entries;
+    }
+
+    public synchronized int size() {
+        return tree.size();
+    }
+
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * One row of the board
+     * @param rank One-based rank
+     * @param playerId The player's UUID
+     * @param score Wins in this category
+     */
+    public record Entry(int rank, UUID playerId, int score) {}
+}
@@ -0,0 +1,158 @@
+package com.chunksmith.nebrixChatGames.leaderboard;
+
+import com.chunksmith.nebrixChatGames.NebrixChatGames;
+import com.chunksmith.nebrixChatGames.data.PlayerData;
+import com.chunksmith.nebrixChatGames.data.PlayerDataManager;
+import com.chunksmith.nebrixChatGames.platform.ScheduledHandle;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * In-memory win leaderboards, overall, per game and per day, week and month
+ * Lifetime boards are kept current by every recorded win and seeded from storage in the background
+ * at startup. Windowed boards only exist here and are saved to their own file.
+ */
+public class LeaderboardManager {
+
+    private static final String WINDOWS_FILE = "leaderboard-windows.dat";
+
+    private final NebrixChatGames plugin;
+    private final Leaderboard global = new Leaderboard();
+    private final ConcurrentHashMap<String, Leaderboard> games = new ConcurrentHashMap<>();
+    private final WindowedLeaderboards windows;
+    private final File windowsFile;
+
+    private volatile boolean ready;
+    private ScheduledHandle saveTask;
+
+    public LeaderboardManager(NebrixChatGames plugin) {
+        this.plugin = plugin;
+        this.windows = new WindowedLeaderboards(plugin.getConfigManager().getLeaderboardZone());
+        this.windowsFile = new File(plugin.getDataFolder(), WINDOWS_FILE);
+    }
+
+    /**
+     * Restore the windowed boards and load every stored player into the lifetime boards
+     * without blocking the caller
+     * @param dataManager Source of the stored players
+     */
+    public void seed(PlayerDataManager dataManager) {
+        try {
+            windows.load(windowsFile);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to load daily, weekly and monthly leaderboards", e);
+        }
+
+        // Windowed boards are saved with the same cadence as player data
+        final long interval = plugin.getConfigManager().getStorageFlushInterval() * 20L;
+        saveTask = plugin.getPlatformScheduler().runAsyncTimer(this::saveWindows, interval, interval);
+
+        final long start = System.currentTimeMillis();
+        dataManager.forEachStoredPlayer(this::update).whenComplete((count, throwable) -> {
+            if (throwable != null) {
+                plugin.getLogger().log(Level.WARNING, "Failed to build leaderboards", throwable);
+                return;
+            }
+            ready = true;
+            plugin.getLogger().info("Built leaderboards from " + count + " players in "
+                    + (System.currentTimeMillis() - start) + "ms");
+        });
+    }
+
+    /**
+     * Stop the periodic save and write the windowed boards
+     */
+    public void shutdown() {
+        if (saveTask != null) {
+            saveTask.cancel();
+            saveTask = null;
+        }
+        saveWindows();
+    }
+
+    private synchronized void saveWindows() {
+        if (!windows.isDirty()) {
+            return;
+        }
+        try {
+            windows.save(windowsFile);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to save daily, weekly and monthly leaderboards", e);
+        }
+    }
+
+    /**
+     * Offer all of a player's win counts
+     * @param data The player's record
+     */
+    public void update(PlayerData data) {
+        final UUID playerId = data.getPlayerId();
+        global.offer(playerId, data.getGamesWon());
+        for (Map.Entry<String, Integer> entry : data.getWins().entrySet()) {
+            getOrCreate(entry.getKey()).offer(playerId, entry.getValue());
+        }
+    }
+
+    /**
+     * Offer the counts after a single win
+     * @param playerId The player's UUID
+     * @param gameId The game that was won
+     * @param totalWins The player's total wins
+     * @param gameWins The player's wins in that game
+     */
+    public void recordWin(UUID playerId, String gameId, int totalWins, int gameWins) {
+        global.offer(playerId, totalWins);
+        getOrCreate(gameId).offer(playerId, gameWins);
+    }
+
+    /**
+     * Count a win on the daily, weekly and monthly boards
+     * Called for every win, including those of players whose data is still loading
+     * @param playerId The winner
+     */
+    public void recordWindowedWin(UUID playerId) {
+        windows.recordWin(playerId);
+    }
+
+    /**
+     * Get the daily, weekly and monthly boards
+     * @return Windowed boards
+     */
+    public WindowedLeaderboards getWindows() {
+        return windows;
+    }
+
+    /**
+     * Get the overall board
+     * @return Board of total wins
+     */
+    public Leaderboard getGlobal() {
+        return global;
+    }
+
+    /**
+     * Get the board of one game
+     * @param gameId The game ID
+     * @return Board of wins in that game, empty if nobody won it yet
+     */
+    public Leaderboard getGame(String gameId) {
+        return getOrCreate(gameId);
+    }
+
+    /**
+     * Check whether seeding finished; before that, boards only hold players seen since startup
+     * @return true once every stored player was loaded
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    private Leaderboard getOrCreate(String gameId) {
+        return games.computeIfAbsent(gameId, id -> new Leaderboard());
+    }
+}
@@ -0,0 +1,178 @@
+package com.chunksmith.nebrixChatGames.leaderboard;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Order-statistic treap of (score, player) keys, highest score first
+ * Every node knows the size of its subtree, so rank and k-th lookups are O(log n).
+ * Ties are ordered by UUID so every key is unique. Not thread-safe.
+ */
+final class RankTree {
+
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+
+    int size() {
+        return size(root);
+    }
+
+    /**
+     * Insert a key that is not in the tree yet
+     */
+    void insert(UUID playerId, int score) {
+        root = insert(root, new Node(playerId, score, random.nextInt()));
+    }
+
+    /**
+     * Remove a key
+     * @return true if the key was present
+     */
+    boolean remove(UUID playerId, int score) {
+        final int before = size(root);
+        root = remove(root, playerId, score);
+        return size(root) < before;
+    }
+
+    /**
+     * Count the keys ordered before a key
+     * @return Zero-based position of the key, or of where it would be inserted
+     */
+    int rank(UUID playerId, int score) {
+        int rank = 0;
+        Node node = root;
+        while (node != null) {
+            final int cmp = compare(playerId, score, node);
+            if (cmp == 0) {
+                return rank + size(node.left);
+            }
+            if (cmp < 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Get the key at a zero-based position
+     * @return The node, or null if out of range
+     */
+    Node get(int index) {
+        Node node = root;
+        while (node != null) {
+            final int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        return null;
+    }
+
+    private static Node insert(Node node, Node created) {
+        if (node == null) {
+            return created;
+        }
+        if (created.priority > node.priority) {
+            final Node[] parts = split(node, created.playerId, created.score);
+            created.left = parts[0];
+            created.right = parts[1];
+            return created.update();
+        }
+        if (compare(created.playerId, created.score, node) < 0) {
+            node.left = insert(node.left, created);
+        } else {
+            node.right = insert(node.right, created);
+        }
+        return node.update();
+    }
+
+    private static Node remove(Node node, UUID playerId, int score) {
+        if (node == null) {
+            return null;
+        }
+        final int cmp = compare(playerId, score, node);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = remove(node.left, playerId, score);
+        } else {
+            node.right = remove(node.right, playerId, score);
+        }
+        return node.update();
+    }
+
+    /**
+     * Split into keys ordered before the given key and the rest
+     */
+    private static Node[] split(Node node, UUID playerId, int score) {
+        if (node == null) {
+            return new Node[2];
+        }
+        if (compare(playerId, score, node) > 0) {
+            final Node[] parts = split(node.right, playerId, score);
+            node.right = parts[0];
+            parts[0] = node.update();
+            return parts;
+        }
+        final Node[] parts = split(node.left, playerId, score);
+        node.left = parts[1];
+        parts[1] = node.update();
+        return parts;
+    }
+
+    /**
+     * Join two trees where every key of the first is ordered before the second
+     */
+    private static Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            return first.update();
+        }
+        second.left = merge(first, second.left);
+        return second.update();
+    }
+
+    private static int compare(UUID playerId, int score, Node node) {
+        final int cmp = Integer.compare(node.score, score);
+        return cmp != 0 ? cmp : playerId.compareTo(node.playerId);
+    }
+
+    private static int size(Node node) {
+        return node != null ? node.size : 0;
+    }
+
+    static final class Node {
+        final UUID playerId;
+        final int score;
+        final int priority;
+        int size = 1;
+        Node left;
+        Node right;
+
+        Node(UUID playerId, int score, int priority) {
+            this.playerId = playerId;
+            this.score = score;
+            this.priority = priority;
+        }
+
+        Node update() {
+            size = 1 + RankTree.size(left) + RankTree.size(right);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.chunksmith.nebrixChatGames.leaderboard;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Win leaderboards for the current day, week and month
+ * Each window holds one board for the running period, whose scores are the period's win counts,
+ * and the final board of the period before. When a period ends the boards are swapped, so a
+ * rollover is a pointer move no matter how many players are ranked.
+ */
+public class WindowedLeaderboards {
+
+    private static final int FILE_MAGIC = 0x4E435757; // NCWW
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * Calendar windows; weeks start on Monday
+     */
+    public enum Window {
+        DAILY, WEEKLY, MONTHLY;
+
+        long periodOf(LocalDate date) {
+            return switch (this) {
+                case DAILY -> date.toEpochDay();
+                case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).toEpochDay();
+                case MONTHLY -> date.getYear() * 12L + date.getMonthValue() - 1;
+            };
+        }
+    }
+
+    private final ZoneId zone;
+    private final EnumMap<Window, State> states = new EnumMap<>(Window.class);
+
+    // Serializes writers of the save file without blocking recordWin
+    private final Object saveLock = new Object();
+
+    private volatile boolean dirty;
+
+    public WindowedLeaderboards(ZoneId zone) {
+        this.zone = zone;
+        final LocalDate today = LocalDate.now(zone);
+        for (Window window : Window.values()) {
+            states.put(window, new State(window.periodOf(today)));
+        }
+    }
+
+    /**
+     * Count a win in every window
+     * @param playerId The winner
+     */
+    public synchronized void recordWin(UUID playerId) {
+        advance();
+        for (State state : states.values()) {
+            state.current.increment(playerId);
+        }
+        dirty = true;
+    }
+
+    /**
+     * Get the board of the running period
+     * @param window The window
+     * @return Board of wins in the current day, week or month
+     */
+    public synchronized Leaderboard getCurrent(Window window) {
+        advance();
+        return states.get(window).current;
+    }
+
+    /**
+     * Get the final board of the period before the running one
+     * @param window The window
+     * @return Board of the previous day, week or month; empty if nothing was recorded
+     */
+    public synchronized Leaderboard getPrevious(Window window) {
+        advance();
+        return states.get(window).previous;
+    }
+
+    /**
+     * Swap boards of windows whose period ended
+     * A window that was idle for more than one period ends up with an empty previous board
+     */
+    private void advance() {
+        final LocalDate today = LocalDate.now(zone);
+        for (Map.Entry<Window, State> entry : states.entrySet()) {
+            final State state = entry.getValue();
+            final long period = entry.getKey().periodOf(today);
+            if (period == state.period) {
+                continue;
+            }
+
+            final boolean consecutive = period == nextPeriod(entry.getKey(), state.period);
+            state.previous = consecutive ? state.current : new Leaderboard();
+            state.previousPeriod = consecutive ? state.period : period - 1;
+            state.current = new Leaderboard();
+            state.period = period;
+            dirty = true;
+        }
+    }
+
+    private static long nextPeriod(Window window, long period) {
+        return window == Window.WEEKLY ? period + 7 : period + 1;
+    }
+
+    /**
+     * Check whether anything changed since the last save
+     * @return true if there are unsaved wins or rollovers
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Write all boards to a file, replacing it atomically
+     * Entries are copied under the board lock; the write and sync run outside it, so wins
+     * recorded meanwhile are not held up by the disk
+     * @param file Target file
+     * @throws IOException if the file cannot be written
+     */
+    public void save(File file) throws IOException {
+        final File temp = new File(file.getPath() + ".tmp");
+
+        synchronized (saveLock) {
+            final List<WindowSnapshot> snapshots = new ArrayList<>(states.size());
+            synchronized (this) {
+                advance();
+                dirty = false;
+                for (Map.Entry<Window, State> entry : states.entrySet()) {
+                    final State state = entry.getValue();
+                    snapshots.add(new WindowSnapshot(entry.getKey().name(),
+                            state.period, state.current.getTop(0, state.current.size()),
+                            state.previousPeriod, state.previous.getTop(0, state.previous.size())));
+                }
+            }
+
+            try (FileOutputStream stream = new FileOutputStream(temp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+                out.writeInt(FILE_MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(snapshots.size());
+                for (WindowSnapshot snapshot : snapshots) {
+                    out.writeUTF(snapshot.name());
+                    writeBoard(out, snapshot.period(), snapshot.current());
+                    writeBoard(out, snapshot.previousPeriod(), snapshot.previous());
+                }
+                out.flush();
+                stream.getFD().sync();
+
+            } catch (IOException e) {
+                dirty = true;
+                throw e;
+            }
+
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    /**
+     * Restore boards saved by {@link #save(File)}; periods that ended meanwhile roll over
+     * @param file Source file; nothing happens if it does not exist
+     * @throws IOException if the file cannot be read
+     */
+    public synchronized void load(File file) throws IOException {
+        if (!file.exists()) {
+            return;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != FILE_MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Unsupported leaderboard window file " + file.getName());
+            }
+
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                final String name = in.readUTF();
+                final State state = new State(in.readLong());
+                readBoard(in, state.current);
+                state.previousPeriod = in.readLong();
+                readBoard(in, state.previous);
+
+                try {
+                    states.put(Window.valueOf(name), state);
+                } catch (IllegalArgumentException ignored) {
+                    // Window no longer exists
+                }
+            }
+        }
+        advance();
+    }
+
+    private static void writeBoard(DataOutputStream out, long period, List<Leaderboard.Entry> entries)
+            throws IOException {
+        out.writeLong(period);
+        out.writeInt(entries.size());
+        for (Leaderboard.Entry entry : entries) {
+            out.writeLong(entry.playerId().getMostSignificantBits());
+            out.writeLong(entry.playerId().getLeastSignificantBits());
+            out.writeInt(entry.score());
+        }
+    }
+
+    private static void readBoard(DataInputStream in, Leaderboard board) throws IOException {
+        final int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            board.offer(new UUID(in.readLong(), in.readLong()), in.readInt());
+        }
+    }
+
+    /**
+     * Entries of one window copied for saving
+     */
+    private record WindowSnapshot(String name, long period, List<Leaderboard.Entry> current,
+                                  long previousPeriod, List<Leaderboard.Entry> previous) {}
+
+    /**
+     * Boards of one window
+     */
+    private static final class State {
+        long period;
+        Leaderboard current = new Leaderboard();
+        long previousPeriod;
+        Leaderboard previous = new Leaderboard();
+
+        State(long period) {
+            this.period = period;
+            this.previousPeriod = period - 1;
+        }
+    }
+}
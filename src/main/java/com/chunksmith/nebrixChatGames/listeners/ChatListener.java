@@ -2,25 +2,50 @@ package com.chunksmith.nebrixChatGames.listeners;
 
 import com.chunksmith.nebrixChatGames.NebrixChatGames;
 import com.chunksmith.nebrixChatGames.config.ConfigManager;
+import com.chunksmith.nebrixChatGames.core.AnswerPipeline;
 import com.chunksmith.nebrixChatGames.core.GameEngine;
 import io.papermc.paper.event.player.AsyncChatEvent;
-import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.AsyncPlayerChatEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.PluginManager;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Handles chat events for game participation
- * Supports both legacy and modern Paper chat events
+ * Only one chat event flavour is registered (Paper AsyncChatEvent or legacy AsyncPlayerChatEvent),
+ * so a chat line is never processed twice when the server fires both
  */
 public class ChatListener implements Listener {
 
+    /**
+     * Which chat event is used to ingest answers
+     */
+    public enum IngestMode {
+        AUTO,
+        PAPER,
+        LEGACY
+    }
+
+    private static final String PAPER_CHAT_EVENT = "io.papermc.paper.event.player.AsyncChatEvent";
+
+    // The same message instance seen again from a player within this window is a re-fired event
+    private static final long DUPLICATE_WINDOW_NANOS = 1_000_000_000L;
+
     private final NebrixChatGames plugin;
     private final GameEngine gameEngine;
     private final ConfigManager config;
 
+    // Last ingested message per player for the identity guard
+    private final ConcurrentHashMap<UUID, LastMessage> lastMessages = new ConcurrentHashMap<>();
+
+    private IngestMode activeMode;
+
     public ChatListener(NebrixChatGames plugin, GameEngine gameEngine, ConfigManager config) {
         this.plugin = plugin;
         this.gameEngine = gameEngine;
@@ -28,75 +53,153 @@ public class ChatListener implements Listener {
     }
 
     /**
-     * Handle legacy AsyncPlayerChatEvent (for compatibility)
-     * This runs at HIGH priority to process before other chat plugins
+     * Register this listener and the chat ingest path matching the server flavour
+     * @param pluginManager The plugin manager
      */
-    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
-    public void onAsyncPlayerChat(AsyncPlayerChatEvent event) {
-        processPlayerMessage(event.getPlayer(), event.getMessage(), event);
+    public void register(PluginManager pluginManager) {
+        this.activeMode = resolveMode(config.getChatIngestMode());
+
+        pluginManager.registerEvents(this, plugin);
+        if (activeMode == IngestMode.PAPER) {
+            pluginManager.registerEvents(new PaperIngest(), plugin);
+        } else {
+            pluginManager.registerEvents(new LegacyIngest(), plugin);
+        }
+
+        plugin.getLogger().info("Chat ingest mode: " + activeMode.name().toLowerCase());
     }
 
     /**
-     * Handle modern Paper AsyncChatEvent
-     * This runs at HIGH priority to process before other chat plugins
+     * Get the ingest path that was registered
+     * @return PAPER or LEGACY, or null before registration
      */
-    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
-    public void onAsyncChat(AsyncChatEvent event) {
-        // Convert Component to plain text
-        final String message = PlainTextComponentSerializer.plainText().serialize(event.message());
-        processPlayerMessage(event.getPlayer(), message, event);
+    public IngestMode getActiveMode() {
+        return activeMode;
     }
 
     /**
-     * Process a player's chat message for game participation
-     * @param player The player who sent the message
-     * @param message The message content
-     * @param event The cancellable event (either legacy or modern)
+     * Drop the identity guard slot of a player who left
      */
-    private void processPlayerMessage(Player player, String message, Object event) {
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        lastMessages.remove(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Resolve the configured mode against what the server actually provides
+     */
+    private IngestMode resolveMode(String configured) {
+        final boolean paperAvailable = isPaperChatAvailable();
+
+        IngestMode mode;
         try {
-            // Only process if there's an active game
-            if (!gameEngine.isGameActive()) {
-                return;
-            }
+            mode = IngestMode.valueOf(configured.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("Invalid chat ingest-mode: " + configured + " (using auto)");
+            mode = IngestMode.AUTO;
+        }
 
-            // Check if player is eligible to participate
-            if (!isPlayerEligible(player)) {
-                return;
+        if (mode == IngestMode.AUTO) {
+            return paperAvailable ? IngestMode.PAPER : IngestMode.LEGACY;
+        }
+
+        if (mode == IngestMode.PAPER && !paperAvailable) {
+            plugin.getLogger().warning("Chat ingest-mode is paper but AsyncChatEvent is not available, using legacy");
+            return IngestMode.LEGACY;
+        }
+
+        return mode;
+    }
+
+    private static boolean isPaperChatAvailable() {
+        try {
+            Class.forName(PAPER_CHAT_EVENT);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Identity guard: reject a message that is the same instance as the previous one from this
+     * player within the duplicate window (events re-fired by other chat plugins); equal text sent
+     * again, e.g. after a rate-limit reject, is a new message
+     */
+    private boolean isDuplicate(Player player, Object message) {
+        LastMessage last = lastMessages.get(player.getUniqueId());
+        if (last == null) {
+            final LastMessage created = new LastMessage();
+            last = lastMessages.putIfAbsent(player.getUniqueId(), created);
+            if (last == null) {
+                last = created;
             }
+        }
 
-            // Process the answer
-            final boolean processed = gameEngine.processAnswer(player, message);
+        return last.checkAndSet(message, System.nanoTime());
+    }
 
-            // Cancel the chat event if it was processed as a correct answer
-            if (processed) {
-                if (event instanceof AsyncPlayerChatEvent legacyEvent) {
-                    legacyEvent.setCancelled(true);
-                } else if (event instanceof AsyncChatEvent modernEvent) {
-                    modernEvent.setCancelled(true);
-                }
+    /**
+     * Guard then hand the message to the answer pipeline
+     * @return true if the message was a correct answer and the event should be cancelled
+     */
+    private boolean ingest(Player player, Object guardKey, String text, AsyncChatEvent paperEvent) {
+        try {
+            // Skip the guard while idle, the pipeline rejects the message right away
+            if (gameEngine.isGameActive() && isDuplicate(player, guardKey)) {
+                return gameEngine.getAnswerPipeline().record(AnswerPipeline.Stage.DUPLICATE);
             }
 
+            return paperEvent != null
+                    ? gameEngine.processAnswer(player, paperEvent.message())
+                    : gameEngine.processAnswer(player, text);
+
         } catch (Exception e) {
             plugin.getLogger().warning("Error processing chat message from " + player.getName() + ": " + e.getMessage());
+            return false;
         }
     }
 
     /**
-     * Check if a player is eligible to participate in games
+     * Legacy AsyncPlayerChatEvent ingest (Spigot and forks without Paper chat)
+     * This runs at HIGH priority to process before other chat plugins
      */
-    private boolean isPlayerEligible(Player player) {
-        // Permission check
-        if (config.requiresPermissionToPlay() && !player.hasPermission("nebrixchatgames.play")) {
-            return false;
+    private final class LegacyIngest implements Listener {
+        @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+        public void onAsyncPlayerChat(AsyncPlayerChatEvent event) {
+            if (ingest(event.getPlayer(), event.getMessage(), event.getMessage(), null)) {
+                event.setCancelled(true);
+            }
         }
+    }
 
-        // World check
-        final String worldName = player.getWorld().getName();
-        if (config.getDisabledWorlds().contains(worldName)) {
-            return false;
+    /**
+     * Paper AsyncChatEvent ingest
+     * The component is handed over as-is so it is only serialized if the answer pipeline gets that far
+     */
+    private final class PaperIngest implements Listener {
+        @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+        public void onAsyncChat(AsyncChatEvent event) {
+            if (ingest(event.getPlayer(), event.message(), null, event)) {
+                event.setCancelled(true);
+            }
         }
+    }
+
+    /**
+     * Mutable per-player guard slot, allocated once per player
+     */
+    private static final class LastMessage {
+        private Object message;
+        private long receivedAt;
+
+        synchronized boolean checkAndSet(Object current, long now) {
+            final boolean duplicate = message != null
+                    && now - receivedAt < DUPLICATE_WINDOW_NANOS
+                    && message == current;
 
-        return true;
+            message = current;
+            receivedAt = now;
+            return duplicate;
+        }
     }
-}
\ No newline at end of file
+}
@@ -2,11 +2,14 @@
 package com.chunksmith.nebrixChatGames.listeners;
 
 import com.chunksmith.nebrixChatGames.NebrixChatGames;
+import com.chunksmith.nebrixChatGames.core.GameEngine;
+import com.chunksmith.nebrixChatGames.data.LoadPriority;
 import com.chunksmith.nebrixChatGames.data.PlayerDataManager;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
@@ -19,10 +22,12 @@ public class PlayerListener implements Listener {
 
     private final NebrixChatGames plugin;
     private final PlayerDataManager dataManager;
+    private final GameEngine gameEngine;
 
-    public PlayerListener(NebrixChatGames plugin, PlayerDataManager dataManager) {
+    public PlayerListener(NebrixChatGames plugin, PlayerDataManager dataManager, GameEngine gameEngine) {
         this.plugin = plugin;
         this.dataManager = dataManager;
+        this.gameEngine = gameEngine;
     }
 
     /**
@@ -32,9 +37,12 @@ public class PlayerListener implements Listener {
     public void onPlayerJoin(PlayerJoinEvent event) {
         final Player player = event.getPlayer();
 
+        gameEngine.getRateLimiter().addPlayer(player.getUniqueId());
+
         try {
-            // Load player data asynchronously
-            dataManager.loadPlayerDataAsync(player.getUniqueId())
+            // Keep the player's data cached while online and load it asynchronously
+            dataManager.setOnline(player.getUniqueId(), true);
+            dataManager.loadPlayerDataAsync(player.getUniqueId(), LoadPriority.JOIN)
                     .exceptionally(throwable -> {
                         plugin.getLogger().log(Level.WARNING,
                                 "Failed to load data for player " + player.getName(), throwable);
@@ -54,8 +62,13 @@ public class PlayerListener implements Listener {
     public void onPlayerQuit(PlayerQuitEvent event) {
         final Player player = event.getPlayer();
 
+        // Drop cached answer eligibility and rate limit buckets
+        gameEngine.getAnswerPipeline().invalidate(player.getUniqueId());
+        gameEngine.getRateLimiter().removePlayer(player.getUniqueId());
+
         try {
-            // Save player data asynchronously
+            // Save player data asynchronously; the cache drops it once idle
+            dataManager.setOnline(player.getUniqueId(), false);
             dataManager.savePlayerDataAsync(player.getUniqueId())
                     .exceptionally(throwable -> {
                         plugin.getLogger().log(Level.WARNING,
@@ -68,4 +81,12 @@ public class PlayerListener implements Listener {
                     "Error handling player quit for " + player.getName(), e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Handle world change - disabled worlds affect answer eligibility
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        gameEngine.getAnswerPipeline().invalidate(event.getPlayer().getUniqueId());
+    }
+}
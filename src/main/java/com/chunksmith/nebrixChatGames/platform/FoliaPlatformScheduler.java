@@ -0,0 +1,107 @@
+package com.chunksmith.nebrixChatGames.platform;
+
+import io.papermc.paper.threadedregions.scheduler.AsyncScheduler;
+import io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scheduler for Folia: rounds run on the global region scheduler and per-player work
+ * on the entity scheduler of that player
+ */
+public final class FoliaPlatformScheduler implements PlatformScheduler {
+
+    private final Plugin plugin;
+    private final GlobalRegionScheduler globalScheduler;
+    private final AsyncScheduler asyncScheduler;
+
+    public FoliaPlatformScheduler(Plugin plugin) {
+        this.plugin = plugin;
+        this.globalScheduler = plugin.getServer().getGlobalRegionScheduler();
+        this.asyncScheduler = plugin.getServer().getAsyncScheduler();
+    }
+
+    /**
+     * Check whether the server runs Folia
+     * @return true if the region threading classes are present
+     */
+    public static boolean isSupported() {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void runGlobal(Runnable task) {
+        globalScheduler.execute(plugin, task);
+    }
+
+    @Override
+    public ScheduledHandle runGlobalLater(Runnable task, long delayTicks) {
+        return wrap(globalScheduler.runDelayed(plugin, scheduled -> task.run(), Math.max(1L, delayTicks)));
+    }
+
+    @Override
+    public ScheduledHandle runGlobalTimer(Runnable task, long delayTicks, long periodTicks) {
+        return wrap(globalScheduler.runAtFixedRate(plugin, scheduled -> task.run(),
+                Math.max(1L, delayTicks), Math.max(1L, periodTicks)));
+    }
+
+    @Override
+    public void runForEntity(Entity entity, Runnable task) {
+        if (Bukkit.isOwnedByCurrentRegion(entity)) {
+            task.run();
+        } else {
+            entity.getScheduler().run(plugin, scheduled -> task.run(), null);
+        }
+    }
+
+    @Override
+    public void runAsync(Runnable task) {
+        asyncScheduler.runNow(plugin, scheduled -> task.run());
+    }
+
+    @Override
+    public ScheduledHandle runAsyncTimer(Runnable task, long delayTicks, long periodTicks) {
+        // The async scheduler works in wall-clock time, one tick is 50 ms
+        return wrap(asyncScheduler.runAtFixedRate(plugin, scheduled -> task.run(),
+                Math.max(1L, delayTicks) * 50L, Math.max(1L, periodTicks) * 50L, TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    public boolean isGlobalThread() {
+        return Bukkit.isGlobalTickThread();
+    }
+
+    @Override
+    public void cancelAll() {
+        globalScheduler.cancelTasks(plugin);
+        asyncScheduler.cancelTasks(plugin);
+    }
+
+    @Override
+    public String getName() {
+        return "Folia";
+    }
+
+    private static ScheduledHandle wrap(ScheduledTask task) {
+        return new ScheduledHandle() {
+            @Override
+            public void cancel() {
+                task.cancel();
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return task.isCancelled();
+            }
+        };
+    }
+}
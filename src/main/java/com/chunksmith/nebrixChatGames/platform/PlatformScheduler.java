@@ -0,0 +1,74 @@
+package com.chunksmith.nebrixChatGames.platform;
+
+import org.bukkit.entity.Entity;
+
+/**
+ * Scheduling abstraction over the Bukkit scheduler and the Folia region schedulers
+ * Rounds, timers and other server-wide work run on the global thread; anything touching
+ * a player's world state runs on the thread that owns that player.
+ */
+public interface PlatformScheduler {
+
+    /**
+     * Run a task on the global thread as soon as possible
+     * @param task The task
+     */
+    void runGlobal(Runnable task);
+
+    /**
+     * Run a task on the global thread after a delay
+     * @param task The task
+     * @param delayTicks Delay in ticks, at least 1
+     * @return Handle to cancel the task
+     */
+    ScheduledHandle runGlobalLater(Runnable task, long delayTicks);
+
+    /**
+     * Run a task on the global thread repeatedly
+     * @param task The task
+     * @param delayTicks Initial delay in ticks, at least 1
+     * @param periodTicks Period in ticks, at least 1
+     * @return Handle to cancel the task
+     */
+    ScheduledHandle runGlobalTimer(Runnable task, long delayTicks, long periodTicks);
+
+    /**
+     * Run a task on the thread that owns an entity
+     * Runs inline when the caller already owns it; dropped if the entity is removed first
+     * @param entity The entity, usually a player
+     * @param task The task
+     */
+    void runForEntity(Entity entity, Runnable task);
+
+    /**
+     * Run a task off the server threads
+     * @param task The task
+     */
+    void runAsync(Runnable task);
+
+    /**
+     * Run a task off the server threads repeatedly
+     * @param task The task
+     * @param delayTicks Initial delay in ticks, at least 1
+     * @param periodTicks Period in ticks, at least 1
+     * @return Handle to cancel the task
+     */
+    ScheduledHandle runAsyncTimer(Runnable task, long delayTicks, long periodTicks);
+
+    /**
+     * Check whether the caller is on the global thread
+     * @return true on the main thread (Paper) or the global region thread (Folia)
+     */
+    boolean isGlobalThread();
+
+    /**
+     * Cancel every task scheduled by the plugin
+     */
+    void cancelAll();
+
+    /**
+     * Get the name of this scheduler for logging
+     * @return Platform name
+     */
+    String getName();
+}
@@ -0,0 +1,18 @@
+package com.chunksmith.nebrixChatGames.platform;
+
+/**
+ * Platform independent handle of a scheduled task
+ */
+public interface ScheduledHandle {
+
+    /**
+     * Cancel the task; safe to call from any thread and more than once
+     */
+    void cancel();
+
+    /**
+     * Check whether the task was cancelled
+     * @return true if cancelled
+     */
+    boolean isCancelled();
+}
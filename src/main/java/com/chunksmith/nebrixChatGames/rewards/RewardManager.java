@@ -11,6 +11,7 @@ import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.logging.Level;
@@ -144,19 +145,28 @@ public class RewardManager {
 
     /**
      * Grant items to a player
+     * The inventory is only touched on the thread that owns the player
      */
     private void grantItems(Player player, List<String> itemSpecs) {
+        final List<ItemStack> items = new ArrayList<>(itemSpecs.size());
         for (String spec : itemSpecs) {
             try {
                 final ItemStack item = parseItemSpec(spec);
                 if (item != null) {
-                    player.getInventory().addItem(item);
+                    items.add(item);
                 }
             } catch (Exception e) {
                 plugin.getLogger().log(Level.WARNING,
                         "Failed to parse item spec: " + spec, e);
             }
         }
+
+        if (items.isEmpty()) {
+            return;
+        }
+
+        plugin.getPlatformScheduler().runForEntity(player, () ->
+                player.getInventory().addItem(items.toArray(new ItemStack[0])));
     }
 
     /**
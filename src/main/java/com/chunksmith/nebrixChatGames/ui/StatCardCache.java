@@ -0,0 +1,170 @@
+package com.chunksmith.nebrixChatGames.ui;
+
+import com.chunksmith.nebrixChatGames.NebrixChatGames;
+import com.chunksmith.nebrixChatGames.api.ChatGame;
+import com.chunksmith.nebrixChatGames.core.GameRegistry;
+import com.chunksmith.nebrixChatGames.data.AnswerTimes;
+import com.chunksmith.nebrixChatGames.data.PlayerData;
+import com.chunksmith.nebrixChatGames.leaderboard.Leaderboard;
+import com.chunksmith.nebrixChatGames.leaderboard.LeaderboardManager;
+import com.chunksmith.nebrixChatGames.util.TextUtils;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Prebuilt /chatgames stats cards
+ * A card is rebuilt only when the player's record or one of the boards it ranks on changed
+ * since it was built, so repeated lookups resend the same components.
+ */
+public class StatCardCache {
+
+    private static final int MAX_CARDS = 512;
+
+    private final NebrixChatGames plugin;
+    private final GameRegistry gameRegistry;
+
+    // Least recently viewed card is dropped first
+    private final Map<UUID, StatCard> cards = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, StatCard> eldest) {
+            return size() > MAX_CARDS;
+        }
+    };
+
+    // Metrics
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder builds = new LongAdder();
+
+    public StatCardCache(NebrixChatGames plugin, GameRegistry gameRegistry) {
+        this.plugin = plugin;
+        this.gameRegistry = gameRegistry;
+    }
+
+    /**
+     * Get the stat card of a player, building it if the cached one is out of date
+     * @param data The player's loaded record
+     * @param name Name shown in the card header
+     * @return Card lines
+     */
+    public synchronized List<Component> getCard(PlayerData data, String name) {
+        final LeaderboardManager leaderboards = plugin.getLeaderboardManager();
+        final Map<String, Integer> wins = new TreeMap<>(data.getWins());
+
+        // Stamps are read before building, so a change made meanwhile triggers a rebuild next time
+        final long dataVersion = data.getVersion();
+        final long rankVersion = rankVersion(leaderboards, wins);
+
+        final StatCard cached = cards.get(data.getPlayerId());
+        if (cached != null && cached.source() == data && cached.dataVersion() == dataVersion
+                && cached.rankVersion() == rankVersion && cached.name().equals(name)) {
+            hits.increment();
+            return cached.lines();
+        }
+
+        final List<Component> lines = build(data, name, wins, leaderboards);
+        cards.put(data.getPlayerId(), new StatCard(data, name, dataVersion, rankVersion, lines));
+        builds.increment();
+        return lines;
+    }
+
+    /**
+     * Drop every card, e.g. after game display names changed
+     */
+    public synchronized void clear() {
+        cards.clear();
+    }
+
+    // Metrics getters
+    public synchronized int size() { return cards.size(); }
+    public long getHitCount() { return hits.sum(); }
+    public long getBuildCount() { return builds.sum(); }
+
+    /**
+     * Reset hit and build counters
+     */
+    public void resetMetrics() {
+        hits.reset();
+        builds.reset();
+    }
+
+    /**
+     * Combined version of the boards a card shows ranks from
+     * Board versions only grow, so the sum changes whenever any of them does
+     */
+    private static long rankVersion(LeaderboardManager leaderboards, Map<String, Integer> wins) {
+        long version = leaderboards.getGlobal().getVersion();
+        for (String gameId : wins.keySet()) {
+            version += leaderboards.getGame(gameId).getVersion();
+        }
+        return version;
+    }
+
+    private List<Component> build(PlayerData data, String name, Map<String, Integer> wins,
+                                  LeaderboardManager leaderboards) {
+        final UUID playerId = data.getPlayerId();
+        final List<Component> lines = new ArrayList<>();
+
+        lines.add(TextUtils.getPrefix(plugin)
+                .append(Component.text(" Stats of ", NamedTextColor.AQUA))
+                .append(Component.text(name, NamedTextColor.WHITE)));
+
+        final int rank = leaderboards.getGlobal().getRank(playerId);
+        lines.add(Component.text("Wins: ", NamedTextColor.GRAY)
+                .append(Component.text(data.getGamesWon(), NamedTextColor.WHITE))
+                .append(rank > 0
+                        ? Component.text(" (rank #" + rank + ")", NamedTextColor.GOLD)
+                        : Component.text(" (unranked)", NamedTextColor.DARK_GRAY)));
+
+        lines.add(Component.text("Win Rate: ", NamedTextColor.GRAY)
+                .append(data.getGamesPlayed() > 0
+                        ? Component.text(String.format("%.1f%%", data.getWinRate() * 100), NamedTextColor.WHITE)
+                                .append(Component.text(" of " + data.getGamesPlayed() + " games",
+                                        NamedTextColor.DARK_GRAY))
+                        : Component.text("n/a", NamedTextColor.DARK_GRAY)));
+
+        final long fastest = data.getFastestAnswer();
+        lines.add(Component.text("Fastest Answer: ", NamedTextColor.GRAY)
+                .append(fastest > 0
+                        ? Component.text(String.format("%.2fs", fastest / 1000.0), NamedTextColor.WHITE)
+                        : Component.text("n/a", NamedTextColor.DARK_GRAY)));
+
+        if (!wins.isEmpty()) {
+            lines.add(Component.text("Wins by game:", NamedTextColor.GRAY));
+        }
+        for (Map.Entry<String, Integer> entry : wins.entrySet()) {
+            final Leaderboard board = leaderboards.getGame(entry.getKey());
+            final int gameRank = board.getRank(playerId);
+            final AnswerTimes times = data.getAnswerTimes(entry.getKey());
+            final String displayName = gameRegistry.getGame(entry.getKey())
+                    .map(ChatGame::getDisplayName)
+                    .orElse(entry.getKey());
+
+            lines.add(Component.text("  " + displayName + ": ", NamedTextColor.GRAY)
+                    .append(Component.text(entry.getValue(), NamedTextColor.WHITE))
+                    .append(gameRank > 0
+                            ? Component.text(" (#" + gameRank + ")", NamedTextColor.GOLD)
+                            : Component.empty())
+                    .append(times.count() > 0
+                            ? Component.text(String.format(" best %.2fs, avg %.2fs",
+                                    times.best() / 1000.0, times.mean() / 1000.0), NamedTextColor.DARK_GRAY)
+                            : Component.empty()));
+        }
+
+        return Collections.unmodifiableList(lines);
+    }
+
+    /**
+     * A built card and the state it was built from
+     */
+    private record StatCard(PlayerData source, String name, long dataVersion, long rankVersion,
+                            List<Component> lines) {}
+}
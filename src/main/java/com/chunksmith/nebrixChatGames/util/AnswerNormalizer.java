@@ -0,0 +1,289 @@
+package com.chunksmith.nebrixChatGames.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Precompiled answer normalizer
+ * The anti-cheat settings are folded into a single character mapping table at config load,
+ * so normalizing a chat message is one pass over the input into a reusable per-thread buffer
+ */
+public final class AnswerNormalizer {
+
+    // Table markers; both are Unicode noncharacters and never a real mapping target
+    private static final char DROP = '\uFFFF';
+    private static final char EXPAND = ConfusablesTable.EXPANSION;
+
+    private static final int TABLE_SIZE = 0x10000;
+
+    // Invisible characters commonly used to split answers
+    private static final String INVISIBLE_CHARS =
+            "\u200B\u200C\u200D\u2060\uFEFF\u00AD\u034F\u061C\u115F\u1160\u17B4\u17B5\u180E";
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(64));
+
+    private final boolean stripColors;
+    private final char[] table;
+    private final char[] expansionKeys;
+    private final String[] expansionValues;
+
+    // Only set when homoglyphs are folded; consulted for supplementary code points
+    private final ConfusablesTable confusables;
+
+    private AnswerNormalizer(boolean stripColors, char[] table, char[] expansionKeys, String[] expansionValues,
+                             ConfusablesTable confusables) {
+        this.stripColors = stripColors;
+        this.table = table;
+        this.expansionKeys = expansionKeys;
+        this.expansionValues = expansionValues;
+        this.confusables = confusables;
+    }
+
+    /**
+     * Compile a normalizer for the given anti-cheat settings
+     * @param confusables Lookalike table used when homoglyphs are folded
+     * @param stripColors Whether legacy color codes and MiniMessage tags are removed
+     * @param normalizeHomoglyphs Whether diacritics and lookalike characters are folded
+     * @param caseSensitive Whether case is preserved
+     * @return Compiled normalizer
+     */
+    public static AnswerNormalizer compile(ConfusablesTable confusables, boolean stripColors,
+                                           boolean normalizeHomoglyphs, boolean caseSensitive) {
+        final char[] table = new char[TABLE_SIZE];
+        final StringBuilder expansionKeys = new StringBuilder();
+        final List<String> expansionValues = new ArrayList<>();
+
+        for (int c = 0; c < TABLE_SIZE; c++) {
+            char mapped = (char) c;
+            char expansionSource = mapped;
+
+            if (normalizeHomoglyphs) {
+                mapped = fold(confusables, mapped);
+            }
+
+            // Fold again after lower-casing so lower-case lookalikes are caught as well
+            if (mapped != EXPAND && !caseSensitive) {
+                mapped = Character.toLowerCase(mapped);
+                if (normalizeHomoglyphs) {
+                    expansionSource = mapped;
+                    mapped = fold(confusables, mapped);
+                    if (mapped != EXPAND) {
+                        mapped = Character.toLowerCase(mapped);
+                    }
+                }
+            }
+
+            if (mapped == EXPAND) {
+                final String expansion = expansionOf(confusables, expansionSource);
+                expansionKeys.append((char) c);
+                expansionValues.add(caseSensitive ? expansion : expansion.toLowerCase(Locale.ROOT));
+                table[c] = EXPAND;
+            } else if (isRemoved((char) c) || isRemoved(mapped)) {
+                table[c] = DROP;
+            } else {
+                table[c] = isSpace(mapped) ? ' ' : mapped;
+            }
+        }
+
+        // Keys are appended in ascending order, ready for binary search
+        return new AnswerNormalizer(stripColors, table,
+                expansionKeys.toString().toCharArray(), expansionValues.toArray(new String[0]),
+                normalizeHomoglyphs ? confusables : null);
+    }
+
+    /**
+     * Fold one character: lookalike table first, then the canonical decomposition base
+     */
+    private static char fold(ConfusablesTable confusables, char c) {
+        final char folded = confusables.fold(c);
+        if (folded != c) {
+            return folded;
+        }
+
+        final char base = Decomposition.BASE[c];
+        return base == DROP || base == c ? base : confusables.fold(base);
+    }
+
+    private static String expansionOf(ConfusablesTable confusables, char c) {
+        return confusables.fold(c) == EXPAND ? confusables.expansion(c) : confusables.expansion(Decomposition.BASE[c]);
+    }
+
+    /**
+     * Normalize player input for answer checking
+     * Returns the input instance itself when nothing changed
+     *
+     * @param input The raw player input
+     * @return Normalized string ready for comparison
+     */
+    public String normalize(String input) {
+        if (input == null || input.isEmpty()) {
+            return "";
+        }
+
+        final StringBuilder out = BUFFER.get();
+        out.setLength(0);
+
+        final int length = input.length();
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < length; i++) {
+            final char c = input.charAt(i);
+
+            if (stripColors) {
+                // Legacy section color codes
+                if (c == '§' && i + 1 < length && isColorCode(input.charAt(i + 1))) {
+                    i++;
+                    continue;
+                }
+
+                // MiniMessage tags
+                if (c == '<') {
+                    final int tagEnd = findTagEnd(input, i + 1);
+                    if (tagEnd >= 0) {
+                        i = tagEnd;
+                        continue;
+                    }
+                }
+            }
+
+            // Supplementary lookalikes such as mathematical alphanumerics
+            if (confusables != null && Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(input.charAt(i + 1))) {
+                final String target = confusables.foldSupplementary(Character.toCodePoint(c, input.charAt(i + 1)));
+                if (target != null) {
+                    i++;
+                    for (int t = 0; t < target.length(); t++) {
+                        pendingSpace = emit(out, target.charAt(t), pendingSpace);
+                    }
+                    continue;
+                }
+            }
+
+            pendingSpace = emit(out, c, pendingSpace);
+        }
+
+        return input.contentEquals(out) ? input : out.toString();
+    }
+
+    /**
+     * Append one mapped character, collapsing whitespace runs and trimming both ends
+     * @return whether a separating space is pending
+     */
+    private boolean emit(StringBuilder out, char c, boolean pendingSpace) {
+        final char mapped = table[c];
+        if (mapped == DROP) {
+            return pendingSpace;
+        }
+
+        if (mapped == ' ') {
+            return out.length() > 0;
+        }
+
+        if (pendingSpace) {
+            out.append(' ');
+        }
+
+        if (mapped == EXPAND) {
+            out.append(expansionFor(c));
+        } else {
+            out.append(mapped);
+        }
+        return false;
+    }
+
+    private String expansionFor(char c) {
+        final int index = Arrays.binarySearch(expansionKeys, c);
+        return index >= 0 ? expansionValues[index] : String.valueOf(c);
+    }
+
+    /**
+     * Find the closing bracket of a MiniMessage tag
+     * @return index of '>' or -1 if the bracket does not open a tag
+     */
+    private static int findTagEnd(String input, int from) {
+        for (int i = from; i < input.length(); i++) {
+            final char c = input.charAt(i);
+            if (c == '>') {
+                return i;
+            }
+            if (c == '<') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isColorCode(char c) {
+        final char lower = Character.toLowerCase(c);
+        return (lower >= '0' && lower <= '9') || (lower >= 'a' && lower <= 'f')
+                || (lower >= 'k' && lower <= 'o') || lower == 'r' || lower == 'x';
+    }
+
+    private static boolean isRemoved(char c) {
+        return c == DROP || c == EXPAND || INVISIBLE_CHARS.indexOf(c) >= 0 || Character.getType(c) == Character.FORMAT;
+    }
+
+    private static boolean isSpace(char c) {
+        return Character.isWhitespace(c) || Character.isSpaceChar(c) || Character.isISOControl(c);
+    }
+
+    /**
+     * Settings-independent canonical decomposition base: the single base character
+     * of the NFD form without combining marks. Built once on first use.
+     */
+    private static final class Decomposition {
+        static final char[] BASE = build();
+
+        private static char[] build() {
+            final char[] base = new char[TABLE_SIZE];
+
+            for (int c = 0; c < TABLE_SIZE; c++) {
+                base[c] = (char) c;
+
+                if (isCombiningMark((char) c)) {
+                    base[c] = DROP;
+                    continue;
+                }
+
+                if (Character.isSurrogate((char) c)) {
+                    continue;
+                }
+
+                final String single = String.valueOf((char) c);
+                if (Normalizer.isNormalized(single, Normalizer.Form.NFD)) {
+                    continue;
+                }
+
+                // Keep the base character when the decomposition is one base plus marks
+                final String decomposed = Normalizer.normalize(single, Normalizer.Form.NFD);
+                char found = 0;
+                int bases = 0;
+                for (int i = 0; i < decomposed.length(); i++) {
+                    if (!isCombiningMark(decomposed.charAt(i))) {
+                        found = decomposed.charAt(i);
+                        bases++;
+                    }
+                }
+
+                if (bases == 1) {
+                    base[c] = found;
+                } else if (bases == 0) {
+                    base[c] = DROP;
+                }
+            }
+
+            // Markers must never be produced from regular input
+            base[DROP] = DROP;
+            base[EXPAND] = DROP;
+
+            return base;
+        }
+
+        private static boolean isCombiningMark(char c) {
+            return c >= '\u0300' && c <= '\u036F';
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.chunksmith.nebrixChatGames.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Lookalike character table loaded from the bundled confusables data file
+ * BMP lookups go through a primitive char array, supplementary code points
+ * through a small open-addressing table, so every lookup is O(1)
+ */
+public final class ConfusablesTable {
+
+    /**
+     * Marker returned by {@link #fold(char)} when the target is longer than one character
+     */
+    public static final char EXPANSION = '\uFFFE';
+
+    public static final String RESOURCE = "confusables.txt";
+
+    private static final ConfusablesTable EMPTY = new ConfusablesTable(identity(), new char[0], new String[0],
+            new int[1], new String[1]);
+
+    private final char[] bmp;
+    private final char[] expansionKeys;
+    private final String[] expansionValues;
+
+    // Open-addressing table for supplementary code points, 0 marks an empty slot
+    private final int[] supplementaryKeys;
+    private final String[] supplementaryValues;
+
+    private ConfusablesTable(char[] bmp, char[] expansionKeys, String[] expansionValues,
+                             int[] supplementaryKeys, String[] supplementaryValues) {
+        this.bmp = bmp;
+        this.expansionKeys = expansionKeys;
+        this.expansionValues = expansionValues;
+        this.supplementaryKeys = supplementaryKeys;
+        this.supplementaryValues = supplementaryValues;
+    }
+
+    /**
+     * Get a table without any mappings
+     * @return Empty table
+     */
+    public static ConfusablesTable empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Parse a confusables data file
+     * Lines follow the Unicode confusables.txt layout: {@code source ; target ; type # comment}
+     *
+     * @param stream The data file
+     * @return Parsed table
+     * @throws IOException if the stream cannot be read
+     */
+    public static ConfusablesTable load(InputStream stream) throws IOException {
+        final char[] bmp = identity();
+        final List<Integer> supplementary = new ArrayList<>();
+        final List<String> supplementaryTargets = new ArrayList<>();
+        final StringBuilder expansionKeys = new StringBuilder();
+        final List<String> expansionValues = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final int comment = line.indexOf('#');
+                final String data = (comment >= 0 ? line.substring(0, comment) : line).trim();
+                if (data.isEmpty()) {
+                    continue;
+                }
+
+                final String[] fields = data.split(";");
+                if (fields.length < 2) {
+                    continue;
+                }
+
+                final int source = Integer.parseInt(fields[0].trim(), 16);
+                final String target = decodeCodePoints(fields[1].trim());
+
+                // Never fold ASCII into ASCII (0 vs O, l vs I)
+                if (source < 0x80 || target.isEmpty()) {
+                    continue;
+                }
+
+                if (source > 0xFFFF) {
+                    supplementary.add(source);
+                    supplementaryTargets.add(target);
+                } else if (target.length() == 1) {
+                    bmp[source] = target.charAt(0);
+                } else {
+                    bmp[source] = EXPANSION;
+                    expansionKeys.append((char) source);
+                    expansionValues.add(target);
+                }
+            }
+        }
+
+        // Sort BMP expansions by source for binary search
+        final Integer[] order = new Integer[expansionKeys.length()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Character.compare(expansionKeys.charAt(a), expansionKeys.charAt(b)));
+
+        final char[] sortedKeys = new char[order.length];
+        final String[] sortedValues = new String[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedKeys[i] = expansionKeys.charAt(order[i]);
+            sortedValues[i] = expansionValues.get(order[i]);
+        }
+
+        // Power-of-two capacity with load factor <= 0.5
+        final int capacity = Integer.highestOneBit(Math.max(1, supplementary.size()) * 2 - 1) << 1;
+        final int[] keys = new int[capacity];
+        final String[] values = new String[capacity];
+        for (int i = 0; i < supplementary.size(); i++) {
+            final int codePoint = supplementary.get(i);
+            int slot = slot(codePoint, capacity);
+            while (keys[slot] != 0 && keys[slot] != codePoint) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            keys[slot] = codePoint;
+            values[slot] = supplementaryTargets.get(i);
+        }
+
+        return new ConfusablesTable(bmp, sortedKeys, sortedValues, keys, values);
+    }
+
+    /**
+     * Fold a BMP character
+     * @param c The character
+     * @return The lookalike target, the character itself if unmapped, or {@link #EXPANSION}
+     */
+    public char fold(char c) {
+        return bmp[c];
+    }
+
+    /**
+     * Get the multi-character target of a BMP character marked as {@link #EXPANSION}
+     * @param c The character
+     * @return Target string, or the character itself if it has no expansion
+     */
+    public String expansion(char c) {
+        final int index = Arrays.binarySearch(expansionKeys, c);
+        return index >= 0 ? expansionValues[index] : String.valueOf(c);
+    }
+
+    /**
+     * Fold a supplementary code point
+     * @param codePoint The code point
+     * @return Target string, or null if unmapped
+     */
+    public String foldSupplementary(int codePoint) {
+        final int mask = supplementaryKeys.length - 1;
+        int slot = slot(codePoint, supplementaryKeys.length);
+        while (supplementaryKeys[slot] != 0) {
+            if (supplementaryKeys[slot] == codePoint) {
+                return supplementaryValues[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Get the number of mapped code points
+     * @return Mapping count
+     */
+    public int size() {
+        int count = 0;
+        for (int c = 0; c < bmp.length; c++) {
+            if (bmp[c] != c && c != EXPANSION) {
+                count++;
+            }
+        }
+        for (int key : supplementaryKeys) {
+            if (key != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int slot(int codePoint, int capacity) {
+        return (codePoint * 0x9E3779B1) >>> 16 & (capacity - 1);
+    }
+
+    private static String decodeCodePoints(String field) {
+        final StringBuilder target = new StringBuilder();
+        for (String hex : field.split("\\s+")) {
+            if (!hex.isEmpty()) {
+                target.appendCodePoint(Integer.parseInt(hex, 16));
+            }
+        }
+        return target.toString();
+    }
+
+    private static char[] identity() {
+        final char[] table = new char[0x10000];
+        for (int c = 0; c < table.length; c++) {
+            table[c] = (char) c;
+        }
+        // The marker itself is never a valid input character
+        table[EXPANSION] = '\uFFFD';
+        return table;
+    }
+}
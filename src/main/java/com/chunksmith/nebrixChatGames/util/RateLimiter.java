@@ -3,69 +3,77 @@ package com.chunksmith.nebrixChatGames.util;
 import com.chunksmith.nebrixChatGames.NebrixChatGames;
 import org.bukkit.entity.Player;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Rate limiter to prevent chat spam and bot abuse
- * Thread-safe implementation with automatic cleanup
+ * Each online player has one slot holding a token bucket per limit. A bucket is a single
+ * long (the time at which it is full again) updated with compare-and-set, so checks never
+ * lock and refill continuously instead of per fixed window. Slots are added on join and
+ * removed on quit; there is no cleanup sweep.
  */
 public class RateLimiter {
 
-    private final NebrixChatGames plugin;
-    private final ConcurrentHashMap<UUID, PlayerRateData> playerData;
-    private volatile long lastCleanup;
+    private static final VarHandle CHAT_FULL_AT;
+    private static final VarHandle ANSWER_FULL_AT;
+
+    static {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            CHAT_FULL_AT = lookup.findVarHandle(Slot.class, "chatFullAt", long.class);
+            ANSWER_FULL_AT = lookup.findVarHandle(Slot.class, "answerFullAt", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
 
-    // Cleanup interval in milliseconds
-    private static final long CLEANUP_INTERVAL = 60000L; // 1 minute
+    // Bucket times are kept in microseconds so high rates keep their precision
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    private final NebrixChatGames plugin;
+    private final ConcurrentHashMap<UUID, Slot> slots = new ConcurrentHashMap<>();
 
     public RateLimiter(NebrixChatGames plugin) {
         this.plugin = plugin;
-        this.playerData = new ConcurrentHashMap<>();
-        this.lastCleanup = System.currentTimeMillis();
     }
 
     /**
-     * Check if a player is within rate limits
-     * @param player The player to check
-     * @return true if the player can send a message
+     * Allocate the slot of a player who joined
+     * @param playerId The player's UUID
      */
-    public boolean checkPlayer(Player player) {
-        final long now = System.currentTimeMillis();
-        final UUID playerId = player.getUniqueId();
-
-        // Perform periodic cleanup
-        if (now - lastCleanup > CLEANUP_INTERVAL) {
-            cleanup(now);
-        }
-
-        // Get or create player rate data
-        final PlayerRateData data = playerData.computeIfAbsent(playerId,
-                k -> new PlayerRateData(now));
-
-        return data.checkAndUpdate(now, plugin.getConfigManager().getRateLimit());
+    public void addPlayer(UUID playerId) {
+        slots.putIfAbsent(playerId, new Slot());
     }
 
     /**
-     * Clean up old rate limit data
-     * @param now Current timestamp
+     * Free the slot of a player who left
+     * @param playerId The player's UUID
      */
-    private void cleanup(long now) {
-        lastCleanup = now;
+    public void removePlayer(UUID playerId) {
+        slots.remove(playerId);
+    }
 
-        // Remove entries older than 5 seconds
-        playerData.entrySet().removeIf(entry ->
-                now - entry.getValue().windowStart > 5000L);
+    /**
+     * Take a token from a player's chat bucket; every message seen during a round counts
+     * @param player The player to check
+     * @param now Current timestamp in milliseconds
+     * @return true if the player can send a message
+     */
+    public boolean checkChat(Player player, long now) {
+        return tryAcquire(CHAT_FULL_AT, slot(player), now, plugin.getConfigManager().getChatRateLimit());
     }
 
     /**
-     * Get current message count for a player (for debugging)
-     * @param player The player
-     * @return Current message count in the rate limit window
+     * Take a token from a player's answer bucket; only messages that reach a round count
+     * @param player The player to check
+     * @param now Current timestamp in milliseconds
+     * @return true if the answer can be evaluated
      */
-    public int getMessageCount(Player player) {
-        final PlayerRateData data = playerData.get(player.getUniqueId());
-        return data != null ? data.messageCount : 0;
+    public boolean checkAnswer(Player player, long now) {
+        return tryAcquire(ANSWER_FULL_AT, slot(player), now, plugin.getConfigManager().getRateLimit());
     }
 
     /**
@@ -73,36 +81,56 @@ public class RateLimiter {
      * @param player The player to reset
      */
     public void resetPlayer(Player player) {
-        playerData.remove(player.getUniqueId());
+        slots.replace(player.getUniqueId(), new Slot());
     }
 
     /**
-     * Thread-safe rate limiting data for individual players
+     * Get the slot of a player
+     * Players online before the limiter existed (e.g. after a reload) get theirs on first use;
+     * a message racing the quit event gets a throwaway slot so nothing is left behind
      */
-    private static class PlayerRateData {
-        private volatile long windowStart;
-        private volatile int messageCount;
-
-        PlayerRateData(long windowStart) {
-            this.windowStart = windowStart;
-            this.messageCount = 0;
+    private Slot slot(Player player) {
+        final Slot slot = slots.get(player.getUniqueId());
+        if (slot != null) {
+            return slot;
         }
+        final Slot created = new Slot();
+        if (!player.isOnline()) {
+            return created;
+        }
+        final Slot existing = slots.putIfAbsent(player.getUniqueId(), created);
+        return existing != null ? existing : created;
+    }
 
-        synchronized boolean checkAndUpdate(long now, int maxMessages) {
-            // Reset window if it's been more than 1 second
-            if (now - windowStart > 1000L) {
-                windowStart = now;
-                messageCount = 0;
-            }
-
-            // Check if within limits
-            if (messageCount >= maxMessages) {
+    /**
+     * Take one token from a bucket holding up to one second of tokens
+     * The bucket stores when it will be full again; each token pushes that time one
+     * interval further, and a token is available while it is at most one second ahead.
+     */
+    private static boolean tryAcquire(VarHandle bucket, Slot slot, long nowMillis, int perSecond) {
+        final long now = nowMillis * 1000L;
+        final long interval = MICROS_PER_SECOND / perSecond;
+        final long capacity = interval * perSecond;
+
+        while (true) {
+            final long fullAt = (long) bucket.getVolatile(slot);
+            final long next = Math.max(fullAt, now) + interval;
+            if (next - now > capacity) {
                 return false;
             }
-
-            // Increment counter
-            messageCount++;
-            return true;
+            if (bucket.compareAndSet(slot, fullAt, next)) {
+                return true;
+            }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Token buckets of one player
+     */
+    private static final class Slot {
+        @SuppressWarnings("unused") // accessed through CHAT_FULL_AT
+        private volatile long chatFullAt;
+        @SuppressWarnings("unused") // accessed through ANSWER_FULL_AT
+        private volatile long answerFullAt;
+    }
+}
@@ -0,0 +1,57 @@
+package com.chunksmith.nebrixChatGames.util;
+
+/**
+ * The last words a game picked, so they are not repeated right away
+ * Words are remembered by their id in the index they came from; when a reload swaps in a
+ * new index the memory starts over.
+ */
+public final class RecentWords {
+
+    private final int[] ids;
+    private int size;
+    private int next;
+    private WordIndex owner;
+
+    /**
+     * Create a memory of a fixed size
+     * @param capacity Number of words to remember, 0 to allow repeats
+     */
+    public RecentWords(int capacity) {
+        this.ids = new int[Math.max(0, capacity)];
+    }
+
+    synchronized boolean contains(WordIndex index, int id) {
+        if (index != owner) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (ids[i] == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    synchronized void add(WordIndex index, int id) {
+        if (ids.length == 0) {
+            return;
+        }
+        if (index != owner) {
+            owner = index;
+            size = 0;
+            next = 0;
+        }
+        ids[next] = id;
+        next = (next + 1) % ids.length;
+        size = Math.min(size + 1, ids.length);
+    }
+
+    /**
+     * Forget every word
+     */
+    public synchronized void clear() {
+        size = 0;
+        next = 0;
+        owner = null;
+    }
+}
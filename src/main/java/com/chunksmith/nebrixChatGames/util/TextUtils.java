@@ -5,12 +5,6 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.ChatColor;
-import org.bukkit.entity.Player;
-
-import java.text.Normalizer;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Pattern;
 
 /**
  * Text processing utilities with Adventure API support
@@ -22,13 +16,8 @@ public final class TextUtils {
     private static final LegacyComponentSerializer LEGACY_SERIALIZER =
             LegacyComponentSerializer.legacyAmpersand();
 
-    // Pattern for invisible characters and various Unicode tricks
-    private static final Pattern INVISIBLE_CHARS = Pattern.compile(
-            "[\u200B\u200C\u200D\u2060\uFEFF\u00AD\u034F\u061C\u115F\u1160\u17B4\u17B5\u180E]+"
-    );
-
-    // Pattern to strip MiniMessage tags
-    private static final Pattern MINIMESSAGE_TAGS = Pattern.compile("<[^<>]*>");
+    // Per-thread DP rows for boundedDistance, grown to the longest string seen
+    private static final ThreadLocal<int[][]> DISTANCE_ROWS = ThreadLocal.withInitial(() -> new int[2][32]);
 
     private TextUtils() {
         throw new UnsupportedOperationException("Utility class cannot be instantiated");
@@ -69,7 +58,8 @@ public final class TextUtils {
 
     /**
      * Normalize player input for answer checking
-     * Applies various anti-cheat measures and standardization
+     * Applies various anti-cheat measures and standardization in a single pass
+     * using the normalizer compiled from the current anti-cheat settings
      *
      * @param input The raw player input
      * @param plugin The plugin instance for configuration
@@ -77,166 +67,112 @@ public final class TextUtils {
      * @return Normalized string ready for comparison
      */
     public static String normalizeAnswer(String input, NebrixChatGames plugin, boolean caseSensitive) {
-        if (input == null || input.isEmpty()) {
-            return "";
-        }
-
-        String normalized = input.trim();
-
-        // Apply case normalization first if needed
-        if (!caseSensitive) {
-            normalized = normalized.toLowerCase();
-        }
-
-        // Strip color codes if configured
-        if (plugin.getConfigManager().shouldStripColors()) {
-            normalized = stripAllColorCodes(normalized);
-        }
-
-        // Remove invisible characters
-        normalized = INVISIBLE_CHARS.matcher(normalized).replaceAll("");
-
-        // Normalize Unicode homoglyphs if configured
-        if (plugin.getConfigManager().shouldNormalizeHomoglyphs()) {
-            normalized = normalizeHomoglyphs(normalized);
-        }
-
-        // Remove extra whitespace
-        normalized = normalized.replaceAll("\\s+", " ").trim();
-
-        return normalized;
+        return plugin.getConfigManager().getAnswerNormalizer(caseSensitive).normalize(input);
     }
 
     /**
-     * Strip both legacy and MiniMessage color codes
-     * @param text Input text
-     * @return Text with color codes removed
-     */
-    private static String stripAllColorCodes(String text) {
-        // Strip legacy color codes first
-        String stripped = ChatColor.stripColor(text);
-
-        // Strip MiniMessage tags
-        stripped = MINIMESSAGE_TAGS.matcher(stripped).replaceAll("");
-
-        return stripped;
-    }
-
-    /**
-     * Normalize Unicode homoglyphs and similar-looking characters
-     * This helps prevent players from using lookalike characters to bypass answers
+     * Check if two strings are similar using Levenshtein distance
+     * Useful for typo tolerance in answers
      *
-     * @param text Input text
-     * @return Normalized text
+     * @param s1 First string
+     * @param s2 Second string
+     * @param maxDistance Maximum allowed edit distance
+     * @return true if strings are within the distance threshold
      */
-    private static String normalizeHomoglyphs(String text) {
-        // Normalize to NFD (canonical decomposition) and remove combining marks
-        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD);
-        normalized = normalized.replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
-
-        // Replace common homoglyphs with ASCII equivalents
-        normalized = normalized
-                // Fullwidth characters to ASCII
-                .replace("０１２３４５６７８９", "0123456789")
-                .replace("ＡＢＣＤＥＦＧＨＩＪＫＬＭＮＯＰＱＲＳＴＵＶＷＸＹＺ", "ABCDEFGHIJKLMNOPQRSTUVWXYZ")
-                .replace("ａｂｃｄｅｆｇｈｉｊｋｌｍｎｏｐｑｒｓｔｕｖｗｘｙｚ", "abcdefghijklmnopqrstuvwxyz")
-
-                // Cyrillic lookalikes
-                .replace("А", "A").replace("В", "B").replace("С", "C").replace("Е", "E")
-                .replace("Н", "H").replace("І", "I").replace("Ј", "J").replace("К", "K")
-                .replace("М", "M").replace("О", "O").replace("Р", "P").replace("Т", "T")
-                .replace("Х", "X").replace("У", "Y")
-
-                .replace("а", "a").replace("е", "e").replace("о", "o").replace("р", "p")
-                .replace("с", "c").replace("х", "x").replace("у", "y")
-
-                // Greek lookalikes
-                .replace("Α", "A").replace("Β", "B").replace("Ε", "E").replace("Ζ", "Z")
-                .replace("Η", "H").replace("Ι", "I").replace("Κ", "K").replace("Μ", "M")
-                .replace("Ν", "N").replace("Ο", "O").replace("Ρ", "P").replace("Τ", "T")
-                .replace("Υ", "Y").replace("Χ", "X")
-
-                .replace("α", "a").replace("ο", "o").replace("ρ", "p").replace("υ", "y")
-
-                // Mathematical symbols
-                .replace("∅", "0").replace("⊘", "0").replace("∘", "o").replace("⦻", "0")
-
-                // Roman numerals (basic ones)
-                .replace("Ⅰ", "I").replace("Ⅱ", "II").replace("Ⅲ", "III").replace("Ⅳ", "IV")
-                .replace("Ⅴ", "V").replace("Ⅵ", "VI").replace("Ⅶ", "VII").replace("Ⅷ", "VIII")
-                .replace("Ⅸ", "IX").replace("Ⅹ", "X")
-
-                // Circled numbers
-                .replace("①②③④⑤⑥⑦⑧⑨⑩", "12345678910")
-
-                // Superscript numbers
-                .replace("⁰¹²³⁴⁵⁶⁷⁸⁹", "0123456789")
-
-                // Subscript numbers
-                .replace("₀₁₂₃₄₅₆₇₈₉", "0123456789");
-
-        return normalized;
+    public static boolean isSimilar(String s1, String s2, int maxDistance) {
+        return isSimilar(s1, s2, maxDistance, false);
     }
 
     /**
      * Check if two strings are similar using Levenshtein distance
-     * Useful for typo tolerance in answers
+     * Does not allocate; strings whose lengths differ by more than the limit are rejected without scanning
      *
      * @param s1 First string
      * @param s2 Second string
      * @param maxDistance Maximum allowed edit distance
+     * @param ignoreCase Whether characters differing only in case are equal
      * @return true if strings are within the distance threshold
      */
-    public static boolean isSimilar(String s1, String s2, int maxDistance) {
+    public static boolean isSimilar(String s1, String s2, int maxDistance, boolean ignoreCase) {
         if (maxDistance <= 0) {
-            return s1.equals(s2);
+            return ignoreCase ? s1.equalsIgnoreCase(s2) : s1.equals(s2);
         }
 
-        return levenshteinDistance(s1, s2) <= maxDistance;
+        return boundedDistance(s1, s2, maxDistance, ignoreCase) <= maxDistance;
     }
 
     /**
-     * Calculate Levenshtein distance between two strings
+     * Calculate Levenshtein distance between two strings, up to a limit
+     * Only the diagonal band of width 2 * limit + 1 can hold distances within the limit, so only
+     * that band is computed, and the scan stops as soon as a whole row is over the limit.
      * @param s1 First string
      * @param s2 Second string
-     * @return Edit distance
+     * @param limit Largest distance of interest
+     * @param ignoreCase Whether characters differing only in case are equal
+     * @return Edit distance, or limit + 1 if it exceeds the limit
      */
-    private static int levenshteinDistance(String s1, String s2) {
-        if (s1.equals(s2)) {
-            return 0;
-        }
+    private static int boundedDistance(String s1, String s2, int limit, boolean ignoreCase) {
+        final int length1 = s1.length();
+        final int length2 = s2.length();
+        final int over = limit + 1;
 
-        if (s1.isEmpty()) {
-            return s2.length();
+        if (Math.abs(length1 - length2) > limit) {
+            return over;
         }
-
-        if (s2.isEmpty()) {
-            return s1.length();
+        if (length1 == 0 || length2 == 0) {
+            return Math.max(length1, length2);
         }
 
-        int[] previousRow = new int[s2.length() + 1];
-        int[] currentRow = new int[s2.length() + 1];
-
-        for (int i = 0; i <= s2.length(); i++) {
-            previousRow[i] = i;
+        int[][] rows = DISTANCE_ROWS.get();
+        if (rows[0].length <= length2 + 1) {
+            rows = new int[2][length2 + 2];
+            DISTANCE_ROWS.set(rows);
         }
+        int[] previous = rows[0];
+        int[] current = rows[1];
 
-        for (int i = 1; i <= s1.length(); i++) {
-            currentRow[0] = i;
-
-            for (int j = 1; j <= s2.length(); j++) {
-                int insertCost = currentRow[j - 1] + 1;
-                int deleteCost = previousRow[j] + 1;
-                int replaceCost = previousRow[j - 1] + (s1.charAt(i - 1) == s2.charAt(j - 1) ? 0 : 1);
+        // Row 0: distance from the empty prefix, cut off after the band
+        final int firstRowEnd = Math.min(length2, limit);
+        for (int j = 0; j <= firstRowEnd; j++) {
+            previous[j] = j;
+        }
+        previous[firstRowEnd + 1] = over;
+
+        for (int i = 1; i <= length1; i++) {
+            final int from = Math.max(1, i - limit);
+            final int to = Math.min(length2, i + limit);
+            final char c1 = s1.charAt(i - 1);
+
+            // Cell left of the band; column 0 holds i, anything further right is outside the band
+            current[from - 1] = from == 1 ? Math.min(i, over) : over;
+            int rowMin = current[from - 1];
+
+            for (int j = from; j <= to; j++) {
+                final int substitute = previous[j - 1] + (charsEqual(c1, s2.charAt(j - 1), ignoreCase) ? 0 : 1);
+                final int distance = Math.min(Math.min(substitute, previous[j] + 1), current[j - 1] + 1);
+                current[j] = Math.min(distance, over);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (to < length2) {
+                current[to + 1] = over;
+            }
 
-                currentRow[j] = Math.min(Math.min(insertCost, deleteCost), replaceCost);
+            if (rowMin > limit) {
+                return over;
             }
 
-            int[] temp = previousRow;
-            previousRow = currentRow;
-            currentRow = temp;
+            final int[] swap = previous;
+            previous = current;
+            current = swap;
         }
 
-        return previousRow[s2.length()];
+        return previous[length2];
+    }
+
+    private static boolean charsEqual(char a, char b, boolean ignoreCase) {
+        if (a == b) {
+            return true;
+        }
+        return ignoreCase && Character.toLowerCase(a) == Character.toLowerCase(b);
     }
 }
\ No newline at end of file
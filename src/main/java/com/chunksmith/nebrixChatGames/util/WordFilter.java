@@ -0,0 +1,28 @@
+package com.chunksmith.nebrixChatGames.util;
+
+import java.util.List;
+
+/**
+ * Criteria a game's words must match
+ * @param tags Tags a word must all carry; empty for any word
+ * @param minLength Minimum word length
+ * @param maxLength Maximum word length
+ * @param minDifficulty Minimum word difficulty
+ * @param maxDifficulty Maximum word difficulty
+ */
+public record WordFilter(List<String> tags, int minLength, int maxLength, int minDifficulty, int maxDifficulty) {
+
+    public WordFilter {
+        tags = List.copyOf(tags);
+    }
+
+    /**
+     * Match any word within a length range
+     * @param minLength Minimum word length
+     * @param maxLength Maximum word length
+     * @return The filter
+     */
+    public static WordFilter byLength(int minLength, int maxLength) {
+        return new WordFilter(List.of(), minLength, maxLength, WordIndex.MIN_DIFFICULTY, WordIndex.MAX_DIFFICULTY);
+    }
+}
@@ -0,0 +1,727 @@
+package com.chunksmith.nebrixChatGames.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Immutable word list indexed by length and tag
+ * Words are packed as UTF-8 into one byte array, sorted by length, with a prefix sum of the
+ * bucket sizes, so every length range is one contiguous slice and picking a random word in
+ * it is O(1). Each tag has a posting list of word ids; ids follow the length order, so a tag's
+ * words in a length range are again one slice, found by binary search. Only the picked word
+ * is turned into a String.
+ */
+public final class WordIndex {
+
+    public static final int MIN_DIFFICULTY = 1;
+    public static final int MAX_DIFFICULTY = 5;
+    public static final int DEFAULT_DIFFICULTY = MIN_DIFFICULTY;
+
+    // Weighted draws tried before the filters are applied to the whole slice
+    private static final int SAMPLE_ATTEMPTS = 32;
+
+    public static final WordIndex EMPTY = new Builder(0).build();
+
+    private final byte[] pool;
+    // Word i is pool[offsets[i]..offsets[i + 1])
+    private final int[] offsets;
+    // lengthStart[n] = number of words shorter than n; the last entry is the word count
+    private final int[] lengthStart;
+    private final byte[] difficulty;
+    // Weights and their prefix sums are null while every word weighs the same
+    private final float[] weights;
+    private final double[] cumulative;
+    private final Map<String, Integer> tagIds;
+    private final int[][] postings;
+    private final double[][] postingCumulative;
+    private final List<String> view = new WordView();
+
+    private WordIndex(Builder builder, byte[] pool, int[] offsets, int[] lengthStart, byte[] difficulty,
+                      float[] weights, int[][] postings) {
+        this.pool = pool;
+        this.offsets = offsets;
+        this.lengthStart = lengthStart;
+        this.difficulty = difficulty;
+        this.weights = weights;
+        this.cumulative = weights != null ? prefixSums(weights, null) : null;
+        this.tagIds = Collections.unmodifiableMap(new LinkedHashMap<>(builder.tagIds));
+        this.postings = postings;
+        this.postingCumulative = new double[postings.length][];
+        if (weights != null) {
+            for (int tag = 0; tag < postings.length; tag++) {
+                postingCumulative[tag] = prefixSums(weights, postings[tag]);
+            }
+        }
+    }
+
+    /**
+     * Index a plain list of words without tags
+     * @param source The words
+     * @return The index
+     */
+    public static WordIndex of(List<String> source) {
+        final Builder builder = new Builder(source.size());
+        for (String word : source) {
+            builder.add(word);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Pick a random word, weighted by word weight
+     * @return Random word, or null if the index is empty
+     */
+    public String randomWord() {
+        return randomWord(0, Integer.MAX_VALUE - 1);
+    }
+
+    /**
+     * Pick a random word within a length range, weighted by word weight
+     * @param minLength Minimum word length
+     * @param maxLength Maximum word length
+     * @return Random word, or null if no word has a length in the range
+     */
+    public String randomWord(int minLength, int maxLength) {
+        final int from = start(minLength);
+        final int to = start(maxLength + 1);
+        return to > from ? word(pick(cumulative, from, to)) : null;
+    }
+
+    /**
+     * Pick a random word matching a filter, weighted by word weight
+     * The filter's rarest tag within the length range is the candidate slice; draws from it
+     * are checked against the other tags, the difficulty range and the recent words. If the
+     * draws keep missing, the slice is filtered in full, and recent words are allowed again
+     * only when nothing else matches.
+     * @param filter Tags, length and difficulty to match
+     * @param recent Words to avoid, updated with the pick; null to allow repeats
+     * @return Matching word, or null if none matches
+     */
+    public String select(WordFilter filter, RecentWords recent) {
+        final int from = start(filter.minLength());
+        final int to = start(filter.maxLength() + 1);
+        if (to <= from) {
+            return null;
+        }
+
+        int[] primary = null;
+        double[] primaryCumulative = cumulative;
+        int low = from;
+        int high = to;
+        for (String tag : filter.tags()) {
+            final Integer tagId = tagIds.get(tag);
+            if (tagId == null) {
+                return null;
+            }
+            final int[] posting = postings[tagId];
+            final int tagFrom = lowerBound(posting, from);
+            final int tagTo = lowerBound(posting, to);
+            if (tagTo <= tagFrom) {
+                return null;
+            }
+            if (primary == null || tagTo - tagFrom < high - low) {
+                primary = posting;
+                primaryCumulative = postingCumulative[tagId];
+                low = tagFrom;
+                high = tagTo;
+            }
+        }
+
+        for (int attempt = 0; attempt < SAMPLE_ATTEMPTS; attempt++) {
+            final int id = at(primary, pick(primaryCumulative, low, high));
+            if (matches(id, filter, primary) && !isRecent(recent, id)) {
+                return take(id, recent);
+            }
+        }
+
+        // The filters reject most of the slice: pick among its matches directly
+        int id = scan(primary, low, high, filter, recent);
+        if (id < 0 && recent != null) {
+            id = scan(primary, low, high, filter, null);
+        }
+        return id >= 0 ? take(id, recent) : null;
+    }
+
+    /**
+     * Get all words, shortest first
+     * @return Unmodifiable view of the words
+     */
+    public List<String> getWords() {
+        return view;
+    }
+
+    /**
+     * Get the words within a length range
+     * @param minLength Minimum word length
+     * @param maxLength Maximum word length
+     * @return Unmodifiable view of the matching words
+     */
+    public List<String> getWordsByLength(int minLength, int maxLength) {
+        final int from = start(minLength);
+        final int to = start(maxLength + 1);
+        return to > from ? view.subList(from, to) : List.of();
+    }
+
+    /**
+     * Count the words within a length range
+     * @param minLength Minimum word length
+     * @param maxLength Maximum word length
+     * @return Number of matching words
+     */
+    public int countByLength(int minLength, int maxLength) {
+        return Math.max(0, start(maxLength + 1) - start(minLength));
+    }
+
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Get the tags of all loaded word packs
+     * @return Tag names
+     */
+    public Set<String> getTags() {
+        return tagIds.keySet();
+    }
+
+    /**
+     * Count the words carrying a tag
+     * @param tag Tag name
+     * @return Number of words, 0 for an unknown tag
+     */
+    public int countByTag(String tag) {
+        final Integer tagId = tagIds.get(tag);
+        return tagId != null ? postings[tagId].length : 0;
+    }
+
+    /**
+     * Get the size of the packed word data
+     * @return Bytes used by the pool and its indexes
+     */
+    public long getMemoryBytes() {
+        long bytes = pool.length + 4L * offsets.length + 4L * lengthStart.length + difficulty.length;
+        if (weights != null) {
+            bytes += 4L * weights.length + 8L * cumulative.length;
+        }
+        for (int tag = 0; tag < postings.length; tag++) {
+            bytes += 4L * postings[tag].length;
+            if (postingCumulative[tag] != null) {
+                bytes += 8L * postingCumulative[tag].length;
+            }
+        }
+        return bytes;
+    }
+
+    private String word(int id) {
+        return new String(pool, offsets[id], offsets[id + 1] - offsets[id], StandardCharsets.UTF_8);
+    }
+
+    private String take(int id, RecentWords recent) {
+        if (recent != null) {
+            recent.add(this, id);
+        }
+        return word(id);
+    }
+
+    private boolean isRecent(RecentWords recent, int id) {
+        return recent != null && recent.contains(this, id);
+    }
+
+    private boolean matches(int id, WordFilter filter, int[] primary) {
+        if (difficulty[id] < filter.minDifficulty() || difficulty[id] > filter.maxDifficulty()) {
+            return false;
+        }
+        for (String tag : filter.tags()) {
+            final int[] posting = postings[tagIds.get(tag)];
+            if (posting != primary && Arrays.binarySearch(posting, id) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Weighted pick among the matching words of a slice, in two passes without allocating
+     * @return Word id, or -1 if nothing matches
+     */
+    private int scan(int[] list, int low, int high, WordFilter filter, RecentWords recent) {
+        double total = 0;
+        for (int i = low; i < high; i++) {
+            final int id = at(list, i);
+            if (matches(id, filter, list) && !isRecent(recent, id)) {
+                total += weight(id);
+            }
+        }
+        if (total <= 0) {
+            return -1;
+        }
+
+        double target = ThreadLocalRandom.current().nextDouble(total);
+        int last = -1;
+        for (int i = low; i < high; i++) {
+            final int id = at(list, i);
+            if (matches(id, filter, list) && !isRecent(recent, id)) {
+                last = id;
+                target -= weight(id);
+                if (target < 0) {
+                    return id;
+                }
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Random position in [low, high), uniform or by the prefix sums of the weights
+     */
+    private static int pick(double[] sums, int low, int high) {
+        if (sums == null) {
+            return low + ThreadLocalRandom.current().nextInt(high - low);
+        }
+        final double target = sums[low] + ThreadLocalRandom.current().nextDouble() * (sums[high] - sums[low]);
+        // Last position whose prefix sum does not exceed the target
+        int from = low;
+        int to = high - 1;
+        while (from < to) {
+            final int mid = (from + to + 1) >>> 1;
+            if (sums[mid] <= target) {
+                from = mid;
+            } else {
+                to = mid - 1;
+            }
+        }
+        return from;
+    }
+
+    private double weight(int id) {
+        return weights != null ? weights[id] : 1.0;
+    }
+
+    private static int at(int[] list, int position) {
+        return list != null ? list[position] : position;
+    }
+
+    /**
+     * First position in an ascending list holding a value of at least the key
+     */
+    private static int lowerBound(int[] list, int key) {
+        int from = 0;
+        int to = list.length;
+        while (from < to) {
+            final int mid = (from + to) >>> 1;
+            if (list[mid] < key) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * Prefix sums of the weights of a list of word ids, or of all words when the list is null
+     */
+    private static double[] prefixSums(float[] weights, int[] list) {
+        final int size = list != null ? list.length : weights.length;
+        final double[] sums = new double[size + 1];
+        for (int i = 0; i < size; i++) {
+            sums[i + 1] = sums[i] + weights[at(list, i)];
+        }
+        return sums;
+    }
+
+    /**
+     * Index of the first word of at least the given length
+     */
+    private int start(int length) {
+        if (length <= 0) {
+            return 0;
+        }
+        return length < lengthStart.length ? lengthStart[length] : size();
+    }
+
+    private final class WordView extends AbstractList<String> implements RandomAccess {
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return word(index);
+        }
+
+        @Override
+        public int size() {
+            return WordIndex.this.size();
+        }
+    }
+
+    /**
+     * Collects distinct, trimmed, lower-case words into a growing pool
+     * Duplicates are found with an open-addressing table of word ids hashed over the pool
+     * bytes, so no String or set entry is kept per word while loading. A word added more than
+     * once keeps all its tags and the highest difficulty and weight it was given.
+     */
+    public static final class Builder {
+
+        // Longer lines are not words; this also bounds the line buffer on a binary file
+        private static final int MAX_WORD_BYTES = 256;
+        private static final int READ_BUFFER = 64 * 1024;
+        private static final double MIN_WEIGHT = 0.01;
+        private static final double MAX_WEIGHT = 1000.0;
+
+        private byte[] bytes;
+        private int used;
+        private int[] starts;
+        private int[] lengths;
+        private byte[] difficulties;
+        private float[] weights;
+        private int count;
+        private int[] table;
+        private int duplicates;
+        private boolean weighted;
+
+        // Tag names in order of first use, and (word id, tag id) pairs
+        private final Map<String, Integer> tagIds = new LinkedHashMap<>();
+        private int[] tagPairs = new int[0];
+        private int pairCount;
+
+        /**
+         * Create a builder sized for an expected number of words
+         * @param expectedWords Estimated word count, used to size the pool and dedupe table
+         */
+        public Builder(int expectedWords) {
+            final int expected = Math.max(16, expectedWords);
+            this.bytes = new byte[expected * 8];
+            this.starts = new int[expected + 1];
+            this.lengths = new int[expected];
+            this.difficulties = new byte[expected];
+            this.weights = new float[expected];
+            this.table = new int[tableSize(expected)];
+        }
+
+        /**
+         * Add a word; it is trimmed and lower-cased first
+         * @param word The word
+         * @return true if it was new
+         */
+        public boolean add(String word) {
+            return add(word, List.of(), DEFAULT_DIFFICULTY, 1.0);
+        }
+
+        /**
+         * Add a word from a word pack; it is trimmed and lower-cased first
+         * @param word The word
+         * @param tags Tags of the pack, matched case-insensitively
+         * @param difficulty Difficulty from {@link #MIN_DIFFICULTY} to {@link #MAX_DIFFICULTY}
+         * @param weight Relative chance of being picked, 1 for normal
+         * @return true if it was new
+         */
+        public boolean add(String word, Collection<String> tags, int difficulty, double weight) {
+            if (word == null) {
+                return false;
+            }
+            final String normalized = word.trim().toLowerCase(Locale.ROOT);
+            if (normalized.isEmpty()) {
+                return false;
+            }
+            final byte[] encoded = normalized.getBytes(StandardCharsets.UTF_8);
+            final int before = count;
+            final int id = intern(encoded, 0, encoded.length, normalized.length());
+
+            final byte level = (byte) Math.max(MIN_DIFFICULTY, Math.min(MAX_DIFFICULTY, difficulty));
+            final float chance = (float) Math.max(MIN_WEIGHT, Math.min(MAX_WEIGHT, weight));
+            if (count > before) {
+                difficulties[id] = level;
+                weights[id] = chance;
+            } else {
+                difficulties[id] = (byte) Math.max(difficulties[id], level);
+                weights[id] = Math.max(weights[id], chance);
+            }
+            weighted |= weights[id] != 1.0f;
+
+            for (String tag : tags) {
+                addTag(id, tag);
+            }
+            return count > before;
+        }
+
+        /**
+         * Add every line of a stream as a word
+         * Blank lines and lines starting with # are skipped. ASCII lines are trimmed and
+         * lower-cased in place; other lines go through {@link #add(String)}.
+         * @param in UTF-8 text, one word per line
+         * @throws IOException if reading fails
+         */
+        public void addLines(InputStream in) throws IOException {
+            final byte[] buffer = new byte[READ_BUFFER];
+            final byte[] line = new byte[MAX_WORD_BYTES];
+            int length = 0;
+            boolean overlong = false;
+            boolean first = true;
+
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    final byte b = buffer[i];
+                    if (b == '\n') {
+                        if (!overlong) {
+                            addLine(line, length, first);
+                        }
+                        first = false;
+                        length = 0;
+                        overlong = false;
+                    } else if (length < MAX_WORD_BYTES) {
+                        line[length++] = b;
+                    } else {
+                        overlong = true;
+                    }
+                }
+            }
+            if (!overlong) {
+                addLine(line, length, first);
+            }
+        }
+
+        /**
+         * Get the number of words added
+         * @return Distinct word count
+         */
+        public int size() {
+            return count;
+        }
+
+        /**
+         * Get the number of duplicate words skipped
+         * @return Duplicate count
+         */
+        public int getDuplicates() {
+            return duplicates;
+        }
+
+        /**
+         * Get the number of distinct tags added
+         * @return Tag count
+         */
+        public int getTagCount() {
+            return tagIds.size();
+        }
+
+        /**
+         * Sort the collected words by length into a packed index
+         * @return The index
+         */
+        public WordIndex build() {
+            int maxLength = 0;
+            for (int i = 0; i < count; i++) {
+                maxLength = Math.max(maxLength, lengths[i]);
+            }
+
+            // Counting sort into length buckets
+            final int[] lengthStart = new int[maxLength + 2];
+            for (int i = 0; i < count; i++) {
+                lengthStart[lengths[i] + 1]++;
+            }
+            for (int length = 1; length < lengthStart.length; length++) {
+                lengthStart[length] += lengthStart[length - 1];
+            }
+
+            final int[] order = new int[count];
+            final int[] next = Arrays.copyOf(lengthStart, lengthStart.length);
+            for (int i = 0; i < count; i++) {
+                order[next[lengths[i]]++] = i;
+            }
+
+            final byte[] pool = new byte[used];
+            final int[] offsets = new int[count + 1];
+            final byte[] sortedDifficulty = new byte[count];
+            final float[] sortedWeights = weighted ? new float[count] : null;
+            final int[] position = new int[count];
+            int offset = 0;
+            for (int i = 0; i < count; i++) {
+                final int id = order[i];
+                final int size = starts[id + 1] - starts[id];
+                System.arraycopy(bytes, starts[id], pool, offset, size);
+                offsets[i] = offset;
+                offset += size;
+                sortedDifficulty[i] = difficulties[id];
+                if (sortedWeights != null) {
+                    sortedWeights[i] = weights[id];
+                }
+                position[id] = i;
+            }
+            offsets[count] = offset;
+
+            return new WordIndex(this, pool, offsets, lengthStart, sortedDifficulty, sortedWeights,
+                    buildPostings(position));
+        }
+
+        /**
+         * Turn the (word, tag) pairs into one ascending, duplicate-free id list per tag
+         */
+        private int[][] buildPostings(int[] position) {
+            final int[] sizes = new int[tagIds.size()];
+            for (int i = 0; i < pairCount; i++) {
+                sizes[tagPairs[2 * i + 1]]++;
+            }
+            final int[][] postings = new int[sizes.length][];
+            for (int tag = 0; tag < sizes.length; tag++) {
+                postings[tag] = new int[sizes[tag]];
+            }
+            final int[] filled = new int[sizes.length];
+            for (int i = 0; i < pairCount; i++) {
+                final int tag = tagPairs[2 * i + 1];
+                postings[tag][filled[tag]++] = position[tagPairs[2 * i]];
+            }
+
+            for (int tag = 0; tag < postings.length; tag++) {
+                final int[] posting = postings[tag];
+                Arrays.sort(posting);
+                int unique = 0;
+                for (int i = 0; i < posting.length; i++) {
+                    if (i == 0 || posting[i] != posting[i - 1]) {
+                        posting[unique++] = posting[i];
+                    }
+                }
+                if (unique < posting.length) {
+                    postings[tag] = Arrays.copyOf(posting, unique);
+                }
+            }
+            return postings;
+        }
+
+        private void addTag(int id, String tag) {
+            if (tag == null) {
+                return;
+            }
+            final String normalized = tag.trim().toLowerCase(Locale.ROOT);
+            if (normalized.isEmpty()) {
+                return;
+            }
+            final int tagId = tagIds.computeIfAbsent(normalized, name -> tagIds.size());
+            if (2 * pairCount + 2 > tagPairs.length) {
+                tagPairs = Arrays.copyOf(tagPairs, Math.max(64, tagPairs.length * 2));
+            }
+            tagPairs[2 * pairCount] = id;
+            tagPairs[2 * pairCount + 1] = tagId;
+            pairCount++;
+        }
+
+        private void addLine(byte[] line, int length, boolean first) {
+            int from = 0;
+            // UTF-8 byte order mark
+            if (first && length >= 3 && (line[0] & 0xFF) == 0xEF && (line[1] & 0xFF) == 0xBB
+                    && (line[2] & 0xFF) == 0xBF) {
+                from = 3;
+            }
+            while (from < length && (line[from] & 0xFF) <= ' ') {
+                from++;
+            }
+            int to = length;
+            while (to > from && (line[to - 1] & 0xFF) <= ' ') {
+                to--;
+            }
+            if (from == to || line[from] == '#') {
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                final byte b = line[i];
+                if (b < 0) {
+                    add(new String(line, from, to - from, StandardCharsets.UTF_8));
+                    return;
+                }
+                if (b >= 'A' && b <= 'Z') {
+                    line[i] = (byte) (b + ('a' - 'A'));
+                }
+            }
+            intern(line, from, to - from, to - from);
+        }
+
+        /**
+         * Find or append a word
+         * @return Id of the word
+         */
+        private int intern(byte[] word, int offset, int size, int charLength) {
+            final int hash = hash(word, offset, size);
+            final int mask = table.length - 1;
+            int slot = hash & mask;
+            int id;
+            while ((id = table[slot]) != 0) {
+                if (equalsWord(id - 1, word, offset, size)) {
+                    duplicates++;
+                    return id - 1;
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            if (count == lengths.length) {
+                lengths = Arrays.copyOf(lengths, count * 2);
+                difficulties = Arrays.copyOf(difficulties, count * 2);
+                weights = Arrays.copyOf(weights, count * 2);
+                starts = Arrays.copyOf(starts, count * 2 + 1);
+            }
+            if (used + size > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, used + size));
+            }
+            System.arraycopy(word, offset, bytes, used, size);
+            starts[count] = used;
+            used += size;
+            starts[count + 1] = used;
+            lengths[count] = charLength;
+            difficulties[count] = DEFAULT_DIFFICULTY;
+            weights[count] = 1.0f;
+            table[slot] = ++count;
+
+            if (count * 4 > table.length * 3) {
+                rehash();
+            }
+            return count - 1;
+        }
+
+        private boolean equalsWord(int id, byte[] word, int offset, int size) {
+            final int start = starts[id];
+            return starts[id + 1] - start == size
+                    && Arrays.equals(bytes, start, start + size, word, offset, offset + size);
+        }
+
+        private void rehash() {
+            table = new int[table.length * 2];
+            final int mask = table.length - 1;
+            for (int id = 0; id < count; id++) {
+                int slot = hash(bytes, starts[id], starts[id + 1] - starts[id]) & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = id + 1;
+            }
+        }
+
+        private static int hash(byte[] word, int offset, int size) {
+            int hash = 0x811C9DC5;
+            for (int i = offset; i < offset + size; i++) {
+                hash = (hash ^ word[i]) * 0x01000193;
+            }
+            return hash ^ (hash >>> 16);
+        }
+
+        private static int tableSize(int expected) {
+            return Integer.highestOneBit(Math.max(16, expected * 4 / 3) - 1) << 1;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.chunksmith.nebrixChatGames.util;
 
 import com.chunksmith.nebrixChatGames.NebrixChatGames;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 
@@ -8,21 +9,40 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Manages word lists for games that require vocabulary
- * Thread-safe with automatic reloading capabilities
+ * Thread-safe with automatic reloading capabilities; words are kept in a {@link WordIndex}
+ * so selection by length never scans the list. The word file is either a YAML list under
+ * "words" or plain text with one word per line, optionally gzip-compressed. Themed word packs
+ * with tags, difficulty and weight are read from the "packs" section of the YAML file.
  */
 public class WordProvider {
 
     private final NebrixChatGames plugin;
-    private volatile List<String> words = new ArrayList<>();
+    // Current snapshot; a reload builds a new one and swaps the reference
+    private volatile WordIndex index = WordIndex.EMPTY;
     private volatile long lastLoadTime = 0;
 
+    // Reloads may overlap; only the most recently started one is kept
+    private final AtomicLong loadGeneration = new AtomicLong();
+    private long publishedGeneration = 0;
+
+    private static final String DEFAULT_WORDS_FILE = "words.yml";
+
+    // Estimates used to size the loader for plain-text files
+    private static final int AVERAGE_LINE_BYTES = 9;
+    private static final int GZIP_RATIO = 3;
+    private static final int MAX_ESTIMATED_WORDS = 4_000_000;
+    private static final int GZIP_BUFFER = 64 * 1024;
+
     // Default words as fallback
     private static final List<String> DEFAULT_WORDS = List.of(
             "minecraft", "building", "adventure", "explore", "crafting",
@@ -38,62 +58,176 @@ public class WordProvider {
     }
 
     /**
-     * Load words from configuration file
-     * Creates default file if it doesn't exist
+     * Load words from the configured word file on the calling thread
+     * Creates the default words.yml if it doesn't exist
      */
     public void loadWords() {
+        publish(readWords(), loadGeneration.incrementAndGet());
+    }
+
+    /**
+     * Load words off the server threads; games keep the current words until the new ones are ready
+     * @return Future completed once the new words are in use
+     */
+    public CompletableFuture<Void> loadWordsAsync() {
+        final long generation = loadGeneration.incrementAndGet();
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        plugin.getPlatformScheduler().runAsync(() -> {
+            publish(readWords(), generation);
+            future.complete(null);
+        });
+        return future;
+    }
+
+    /**
+     * Swap in loaded words unless a newer load was started meanwhile
+     */
+    private synchronized void publish(WordIndex loaded, long generation) {
+        if (generation >= publishedGeneration) {
+            this.publishedGeneration = generation;
+            this.index = loaded;
+            this.lastLoadTime = System.currentTimeMillis();
+        }
+    }
+
+    private WordIndex readWords() {
+        final String fileName = plugin.getConfigManager().getWordsFile();
         try {
-            final File wordsFile = new File(plugin.getDataFolder(), "words.yml");
+            final Path path = plugin.getDataFolder().toPath().resolve(fileName);
 
-            // Create default file if it doesn't exist
-            if (!wordsFile.exists()) {
-                createDefaultWordsFile(wordsFile);
+            if (!Files.exists(path)) {
+                if (!fileName.equals(DEFAULT_WORDS_FILE)) {
+                    plugin.getLogger().warning("Word file " + fileName + " not found, using defaults");
+                    return WordIndex.of(DEFAULT_WORDS);
+                }
+                createDefaultWordsFile(path.toFile());
             }
 
-            final FileConfiguration wordsConfig = YamlConfiguration.loadConfiguration(wordsFile);
-            final List<String> loadedWords = wordsConfig.getStringList("words");
-
-            if (loadedWords.isEmpty()) {
-                plugin.getLogger().warning("No words found in words.yml, using defaults");
-                this.words = new ArrayList<>(DEFAULT_WORDS);
+            final WordIndex.Builder builder;
+            final int packs;
+            if (isYaml(fileName)) {
+                final FileConfiguration wordsConfig = YamlConfiguration.loadConfiguration(path.toFile());
+                builder = readYaml(wordsConfig);
+                packs = readPacks(wordsConfig, builder);
             } else {
-                // Filter and validate words
-                this.words = loadedWords.stream()
-                        .filter(word -> word != null && !word.trim().isEmpty())
-                        .map(String::trim)
-                        .map(String::toLowerCase)
-                        .distinct()
-                        .toList();
-
-                plugin.getLogger().info("Loaded " + this.words.size() + " words from words.yml");
+                builder = readLines(path);
+                // Packs stay in words.yml next to a plain-text dictionary
+                final Path packsFile = plugin.getDataFolder().toPath().resolve(DEFAULT_WORDS_FILE);
+                packs = Files.exists(packsFile)
+                        ? readPacks(YamlConfiguration.loadConfiguration(packsFile.toFile()), builder)
+                        : 0;
             }
 
-            this.lastLoadTime = System.currentTimeMillis();
+            if (builder.size() == 0) {
+                plugin.getLogger().warning("No words found in " + fileName + ", using defaults");
+                return WordIndex.of(DEFAULT_WORDS);
+            }
+
+            final WordIndex loaded = builder.build();
+            plugin.getLogger().info("Loaded " + loaded.size() + " words from " + fileName
+                    + (packs > 0 ? " with " + packs + " word packs (" + builder.getTagCount() + " tags)" : "")
+                    + (builder.getDuplicates() > 0 ? ", " + builder.getDuplicates() + " duplicates skipped" : ""));
+            return loaded;
 
         } catch (Exception e) {
-            plugin.getLogger().log(Level.WARNING, "Failed to load words, using defaults", e);
-            this.words = new ArrayList<>(DEFAULT_WORDS);
+            plugin.getLogger().log(Level.WARNING, "Failed to load words from " + fileName + ", using defaults", e);
+            return WordIndex.of(DEFAULT_WORDS);
+        }
+    }
+
+    /**
+     * Read the "words" list of a YAML file
+     */
+    private WordIndex.Builder readYaml(FileConfiguration wordsConfig) {
+        final List<String> loadedWords = wordsConfig.getStringList("words");
+
+        final WordIndex.Builder builder = new WordIndex.Builder(loadedWords.size());
+        for (String word : loadedWords) {
+            builder.add(word);
+        }
+        return builder;
+    }
+
+    /**
+     * Read the "packs" section of a YAML file
+     * Each pack has a list of words sharing its tags, difficulty and weight; the pack's own
+     * name is always one of its tags
+     * @return Number of packs read
+     */
+    private int readPacks(FileConfiguration wordsConfig, WordIndex.Builder builder) {
+        final ConfigurationSection packsSection = wordsConfig.getConfigurationSection("packs");
+        if (packsSection == null) {
+            return 0;
+        }
+
+        int packs = 0;
+        for (String name : packsSection.getKeys(false)) {
+            final ConfigurationSection pack = packsSection.getConfigurationSection(name);
+            if (pack == null) {
+                plugin.getLogger().warning("Word pack " + name + " is not a section, skipping");
+                continue;
+            }
+
+            final List<String> tags = new ArrayList<>(pack.getStringList("tags"));
+            tags.add(name);
+            final int difficulty = pack.getInt("difficulty", WordIndex.DEFAULT_DIFFICULTY);
+            final double weight = pack.getDouble("weight", 1.0);
+
+            for (String word : pack.getStringList("words")) {
+                builder.add(word, tags, difficulty, weight);
+            }
+            packs++;
         }
+        return packs;
+    }
+
+    /**
+     * Stream a plain-text word file, gzip-compressed if it ends in .gz
+     * The pool and dedupe table are sized from the file length so they rarely grow
+     */
+    private WordIndex.Builder readLines(Path path) throws IOException {
+        final boolean gzip = path.getFileName().toString().endsWith(".gz");
+        final long bytes = Files.size(path) * (gzip ? GZIP_RATIO : 1);
+        final WordIndex.Builder builder = new WordIndex.Builder(
+                (int) Math.min(MAX_ESTIMATED_WORDS, bytes / AVERAGE_LINE_BYTES));
+
+        try (InputStream file = Files.newInputStream(path);
+             InputStream in = gzip ? new GZIPInputStream(file, GZIP_BUFFER) : file) {
+            builder.addLines(in);
+        }
+        return builder;
+    }
+
+    private static boolean isYaml(String fileName) {
+        return fileName.endsWith(".yml") || fileName.endsWith(".yaml");
     }
 
     /**
      * Get immutable list of all words
-     * @return List of words
+     * @return List of words, shortest first
      */
     public List<String> getWords() {
-        return Collections.unmodifiableList(words);
+        return index.getWords();
     }
 
     /**
      * Get words filtered by length
      * @param minLength Minimum word length
      * @param maxLength Maximum word length
-     * @return Filtered list of words
+     * @return Unmodifiable view of the matching words
      */
     public List<String> getWordsByLength(int minLength, int maxLength) {
-        return words.stream()
-                .filter(word -> word.length() >= minLength && word.length() <= maxLength)
-                .toList();
+        return index.getWordsByLength(minLength, maxLength);
+    }
+
+    /**
+     * Get the current word snapshot
+     * Callers should read it once per use so every lookup sees the same words, even if a
+     * reload swaps in new ones meanwhile; the old snapshot is freed once nothing holds it
+     * @return Immutable word index
+     */
+    public WordIndex getIndex() {
+        return index;
     }
 
     /**
@@ -101,7 +235,7 @@ public class WordProvider {
      * @return Word count
      */
     public int getWordCount() {
-        return words.size();
+        return index.size();
     }
 
     /**
@@ -0,0 +1,116 @@
+package com.chunksmith.nebrixChatGames.util;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Checks the compiled normalizer against the regex normalizer it replaced
+ * Only inputs both versions handle are compared; lookalikes the old chain missed are
+ * covered by HomoglyphCorpusTest
+ */
+class AnswerNormalizerTest {
+
+    private static ConfusablesTable table;
+
+    private static final String[] ASCII = {
+            "diamond",
+            "Diamond Sword",
+            "  the answer   is 42  ",
+            "\tcreeper\n",
+            "x + y = 12",
+            "what's up?!",
+            "a",
+            " ",
+    };
+
+    private static final String[] COLOR_CODES = {
+            "§adiamond",
+            "§A§lDiamond§r",
+            "dia§emo§knd",
+            "§x§f§f§0§0§0§0red",
+            "§zdiamond",
+            "diamond§",
+    };
+
+    private static final String[] MINIMESSAGE_TAGS = {
+            "<red>diamond</red>",
+            "<gradient:#ff0000:#00ff00>Diamond</gradient>",
+            "<bold><italic>creeper",
+            "1 < 2",
+            "a <b <c> d",
+            "<>diamond",
+            "§c<yellow>Gold</yellow> Ingot",
+    };
+
+    private static final String[] COMBINING_MARKS = {
+            "caf\u00E9",
+            "cafe\u0301",
+            "ÉLÈVE",
+            "naïve résumé",
+            "n\u0303o\u0308",
+            "Ångström",
+            "piñata",
+    };
+
+    @BeforeAll
+    static void loadTable() throws IOException {
+        try (InputStream stream = AnswerNormalizerTest.class.getClassLoader().getResourceAsStream(ConfusablesTable.RESOURCE)) {
+            assertNotNull(stream, "Missing " + ConfusablesTable.RESOURCE);
+            table = ConfusablesTable.load(stream);
+        }
+    }
+
+    @Test
+    void matchesLegacyOnAscii() {
+        assertMatchesLegacy(ASCII);
+    }
+
+    @Test
+    void matchesLegacyOnColorCodes() {
+        assertMatchesLegacy(COLOR_CODES);
+    }
+
+    @Test
+    void matchesLegacyOnMiniMessageTags() {
+        assertMatchesLegacy(MINIMESSAGE_TAGS);
+    }
+
+    @Test
+    void matchesLegacyOnCombiningMarks() {
+        assertMatchesLegacy(COMBINING_MARKS);
+    }
+
+    @Test
+    void returnsUnchangedInputItself() {
+        final AnswerNormalizer normalizer = AnswerNormalizer.compile(table, true, true, false);
+        final String input = "diamond sword";
+        assertSame(input, normalizer.normalize(input));
+    }
+
+    /**
+     * Compare both normalizers under every combination of settings
+     */
+    private static void assertMatchesLegacy(String[] inputs) {
+        for (int flags = 0; flags < 8; flags++) {
+            final boolean stripColors = (flags & 1) != 0;
+            final boolean normalizeHomoglyphs = (flags & 2) != 0;
+            final boolean caseSensitive = (flags & 4) != 0;
+
+            final LegacyAnswerNormalizer legacy = new LegacyAnswerNormalizer(stripColors, normalizeHomoglyphs, caseSensitive);
+            final AnswerNormalizer compiled = AnswerNormalizer.compile(table, stripColors, normalizeHomoglyphs, caseSensitive);
+
+            for (String input : inputs) {
+                assertEquals(legacy.normalize(input), compiled.normalize(input),
+                        "\"" + input + "\" with stripColors=" + stripColors
+                                + ", normalizeHomoglyphs=" + normalizeHomoglyphs + ", caseSensitive=" + caseSensitive);
+            }
+        }
+    }
+}
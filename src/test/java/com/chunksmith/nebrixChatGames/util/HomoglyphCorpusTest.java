@@ -0,0 +1,151 @@
+package com.chunksmith.nebrixChatGames.util;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Corpus of lookalike bypass attempts seen in chat
+ * Most of these got past the old normalizer, which only replaced complete runs such as
+ * "０１２３４５６７８９" and never looked at supplementary code points
+ */
+class HomoglyphCorpusTest {
+
+    private static ConfusablesTable table;
+    private static AnswerNormalizer normalizer;
+
+    // { attempt, expected answer }
+    private static final String[][] FULLWIDTH = {
+            {"５", "5"},
+            {"the answer is ７", "the answer is 7"},
+            {"１２", "12"},
+            {"ｄｉａｍｏｎｄ", "diamond"},
+            {"ＤＩＡＭＯＮＤ", "diamond"},
+            {"dｉamoｎd", "diamond"},
+    };
+
+    private static final String[][] CIRCLED = {
+            {"①", "1"},
+            {"②④", "24"},
+            {"⑳", "20"},
+            {"ⓓⓘⓐⓜⓞⓝⓓ", "diamond"},
+    };
+
+    private static final String[][] SUPERSCRIPT = {
+            {"²", "2"},
+            {"⁴²", "42"},
+            {"x²", "x2"},
+    };
+
+    private static final String[][] SUBSCRIPT = {
+            {"₃", "3"},
+            {"₁₀", "10"},
+            {"h₂o", "h2o"},
+    };
+
+    private static final String[][] CYRILLIC = {
+            {"сrеереr", "creeper"},
+            {"СREEPER", "creeper"},
+            {"аррlе", "apple"},
+    };
+
+    private static final String[][] GREEK = {
+            {"Αpple", "apple"},
+            {"ΡΟΤΙΟΝ", "potion"},
+            {"ροrtal", "portal"},
+    };
+
+    private static final String[][] SUPPLEMENTARY = {
+            {"𝐝𝐢𝐚𝐦𝐨𝐧𝐝", "diamond"},
+            {"𝟓", "5"},
+            {"🄰pple", "apple"},
+            {"dia𝐦ond", "diamond"},
+    };
+
+    private static final String[][] MIXED = {
+            {"сrее\u200Bреr", "creeper"},
+            {"  ｄ𝐢аmond  ", "diamond"},
+            {"§aｄｉａｍｏｎｄ", "diamond"},
+    };
+
+    @BeforeAll
+    static void loadTable() throws IOException {
+        try (InputStream stream = HomoglyphCorpusTest.class.getClassLoader().getResourceAsStream(ConfusablesTable.RESOURCE)) {
+            assertNotNull(stream, "Missing " + ConfusablesTable.RESOURCE);
+            table = ConfusablesTable.load(stream);
+        }
+        normalizer = AnswerNormalizer.compile(table, true, true, false);
+    }
+
+    @Test
+    void foldsSingleFullwidthCharacters() {
+        assertCorpus(FULLWIDTH);
+    }
+
+    @Test
+    void foldsCircledCharacters() {
+        assertCorpus(CIRCLED);
+    }
+
+    @Test
+    void foldsSuperscriptDigits() {
+        assertCorpus(SUPERSCRIPT);
+    }
+
+    @Test
+    void foldsSubscriptDigits() {
+        assertCorpus(SUBSCRIPT);
+    }
+
+    @Test
+    void foldsCyrillicLookalikes() {
+        assertCorpus(CYRILLIC);
+    }
+
+    @Test
+    void foldsGreekLookalikes() {
+        assertCorpus(GREEK);
+    }
+
+    @Test
+    void foldsSupplementaryLetters() {
+        assertCorpus(SUPPLEMENTARY);
+    }
+
+    @Test
+    void foldsMixedAttempts() {
+        assertCorpus(MIXED);
+    }
+
+    @Test
+    void tableMapsSingleCodePoints() {
+        assertEquals('5', table.fold('５'));
+        assertEquals('1', table.fold('①'));
+        assertEquals('2', table.fold('²'));
+        assertEquals('3', table.fold('₃'));
+        assertEquals('c', table.fold('с'));
+        assertEquals('P', table.fold('Ρ'));
+        assertEquals(ConfusablesTable.EXPANSION, table.fold('⑳'));
+        assertEquals("20", table.expansion('⑳'));
+        assertEquals("d", table.foldSupplementary("𝐝".codePointAt(0)));
+        assertEquals(null, table.foldSupplementary("😀".codePointAt(0)));
+    }
+
+    @Test
+    void tableLeavesAsciiAlone() {
+        for (char c = 0; c < 0x80; c++) {
+            assertEquals(c, table.fold(c), "ASCII " + (int) c + " must not fold");
+        }
+    }
+
+    private static void assertCorpus(String[][] corpus) {
+        for (String[] attempt : corpus) {
+            assertEquals(attempt[1], normalizer.normalize(attempt[0]), "Attempt \"" + attempt[0] + "\"");
+        }
+    }
+}
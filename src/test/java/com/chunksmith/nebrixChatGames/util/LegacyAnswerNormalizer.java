@@ -0,0 +1,111 @@
+package com.chunksmith.nebrixChatGames.util;
+
+import java.text.Normalizer;
+import java.util.regex.Pattern;
+
+/**
+ * Reference copy of the regex answer normalizer that AnswerNormalizer replaced
+ * Kept with the tests so the compiled table can be checked and benchmarked against it;
+ * ChatColor.stripColor is inlined as its pattern so no server is needed
+ */
+final class LegacyAnswerNormalizer {
+
+    // Pattern used by ChatColor.stripColor
+    private static final Pattern LEGACY_COLOR_CODES = Pattern.compile("(?i)\u00A7[0-9A-FK-ORX]");
+
+    // Pattern for invisible characters and various Unicode tricks
+    private static final Pattern INVISIBLE_CHARS = Pattern.compile(
+            "[\u200B\u200C\u200D\u2060\uFEFF\u00AD\u034F\u061C\u115F\u1160\u17B4\u17B5\u180E]+"
+    );
+
+    // Pattern to strip MiniMessage tags
+    private static final Pattern MINIMESSAGE_TAGS = Pattern.compile("<[^<>]*>");
+
+    private final boolean stripColors;
+    private final boolean normalizeHomoglyphs;
+    private final boolean caseSensitive;
+
+    LegacyAnswerNormalizer(boolean stripColors, boolean normalizeHomoglyphs, boolean caseSensitive) {
+        this.stripColors = stripColors;
+        this.normalizeHomoglyphs = normalizeHomoglyphs;
+        this.caseSensitive = caseSensitive;
+    }
+
+    /**
+     * Normalize player input exactly as TextUtils.normalizeAnswer used to
+     * @param input The raw player input
+     * @return Normalized string ready for comparison
+     */
+    String normalize(String input) {
+        if (input == null || input.isEmpty()) {
+            return "";
+        }
+
+        String normalized = input.trim();
+
+        if (!caseSensitive) {
+            normalized = normalized.toLowerCase();
+        }
+
+        if (stripColors) {
+            normalized = LEGACY_COLOR_CODES.matcher(normalized).replaceAll("");
+            normalized = MINIMESSAGE_TAGS.matcher(normalized).replaceAll("");
+        }
+
+        normalized = INVISIBLE_CHARS.matcher(normalized).replaceAll("");
+
+        if (normalizeHomoglyphs) {
+            normalized = normalizeHomoglyphs(normalized);
+        }
+
+        return normalized.replaceAll("\\s+", " ").trim();
+    }
+
+    private static String normalizeHomoglyphs(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD);
+        normalized = normalized.replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
+
+        // Replace common homoglyphs with ASCII equivalents
+        normalized = normalized
+                // Fullwidth characters to ASCII
+                .replace("０１２３４５６７８９", "0123456789")
+                .replace("ＡＢＣＤＥＦＧＨＩＪＫＬＭＮＯＰＱＲＳＴＵＶＷＸＹＺ", "ABCDEFGHIJKLMNOPQRSTUVWXYZ")
+                .replace("ａｂｃｄｅｆｇｈｉｊｋｌｍｎｏｐｑｒｓｔｕｖｗｘｙｚ", "abcdefghijklmnopqrstuvwxyz")
+
+                // Cyrillic lookalikes
+                .replace("А", "A").replace("В", "B").replace("С", "C").replace("Е", "E")
+                .replace("Н", "H").replace("І", "I").replace("Ј", "J").replace("К", "K")
+                .replace("М", "M").replace("О", "O").replace("Р", "P").replace("Т", "T")
+                .replace("Х", "X").replace("У", "Y")
+
+                .replace("а", "a").replace("е", "e").replace("о", "o").replace("р", "p")
+                .replace("с", "c").replace("х", "x").replace("у", "y")
+
+                // Greek lookalikes
+                .replace("Α", "A").replace("Β", "B").replace("Ε", "E").replace("Ζ", "Z")
+                .replace("Η", "H").replace("Ι", "I").replace("Κ", "K").replace("Μ", "M")
+                .replace("Ν", "N").replace("Ο", "O").replace("Ρ", "P").replace("Τ", "T")
+                .replace("Υ", "Y").replace("Χ", "X")
+
+                .replace("α", "a").replace("ο", "o").replace("ρ", "p").replace("υ", "y")
+
+                // Mathematical symbols
+                .replace("∅", "0").replace("⊘", "0").replace("∘", "o").replace("⦻", "0")
+
+                // Roman numerals (basic ones)
+                .replace("Ⅰ", "I").replace("Ⅱ", "II").replace("Ⅲ", "III").replace("Ⅳ", "IV")
+                .replace("Ⅴ", "V").replace("Ⅵ", "VI").replace("Ⅶ", "VII").replace("Ⅷ", "VIII")
+                .replace("Ⅸ", "IX").replace("Ⅹ", "X")
+
+                // Circled numbers
+                .replace("①②③④⑤⑥⑦⑧⑨⑩", "12345678910")
+
+                // Superscript numbers
+                .replace("⁰¹²³⁴⁵⁶⁷⁸⁹", "0123456789")
+
+                // Subscript numbers
+                .replace("₀₁₂₃₄₅₆₇₈₉", "0123456789");
+
+        return normalized;
+    }
+}